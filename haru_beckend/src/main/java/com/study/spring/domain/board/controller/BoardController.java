@@ -2,9 +2,11 @@ package com.study.spring.domain.board.controller;
 
 import com.study.spring.domain.board.dto.BoardDto;
 import com.study.spring.domain.board.service.BoardService;
+import com.study.spring.domain.common.util.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -21,23 +23,27 @@ public class BoardController {
         return ResponseEntity.ok(boardService.createBoard(memberId, request));
     }
 
-    // 게시글 조회
+    // 게시글 조회 (조회 API는 ETag/Last-Modified를 내려주고, 변경이 없으면 304)
     @GetMapping("/{id}")
-    public ResponseEntity<BoardDto.Response> getBoard(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(boardService.getBoard(id));
+    public ResponseEntity<BoardDto.Response> getBoard(@PathVariable("id") Long id, WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, boardService.getBoardVersion(id),
+                () -> boardService.getBoard(id));
     }
 
     // 전체 게시글 조회
     @GetMapping
-    public ResponseEntity<List<BoardDto.Response>> getAllBoards() {
-        return ResponseEntity.ok(boardService.getAllBoards());
+    public ResponseEntity<List<BoardDto.Response>> getAllBoards(WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, boardService.getBoardsVersion(),
+                boardService::getAllBoards);
     }
 
     // 회원별 게시글 조회
     @GetMapping("/member/{memberId}")
     public ResponseEntity<List<BoardDto.Response>> getBoardsByMemberId(
-            @PathVariable("memberId") Long memberId) {  // 수정!
-        return ResponseEntity.ok(boardService.getBoardsByMemberId(memberId));
+            @PathVariable("memberId") Long memberId,  // 수정!
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, boardService.getBoardsVersionByMemberId(memberId),
+                () -> boardService.getBoardsByMemberId(memberId));
     }
 
     // 게시글 수정
@@ -67,22 +73,28 @@ public class BoardController {
     // 특정 게시글의 댓글 목록 조회
     @GetMapping("/{boardId}/comments")
     public ResponseEntity<List<BoardDto.CommentResponse>> getCommentsByBoardId(
-            @PathVariable("boardId") Long boardId) {  // 수정!
-        return ResponseEntity.ok(boardService.getCommentsByBoardId(boardId));
+            @PathVariable("boardId") Long boardId,  // 수정!
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, boardService.getBoardVersion(boardId),
+                () -> boardService.getCommentsByBoardId(boardId));
     }
 
     // 특정 댓글 조회
     @GetMapping("/comments/{commentId}")
     public ResponseEntity<BoardDto.CommentResponse> getComment(
-            @PathVariable("commentId") Long commentId) {  // 수정!
-        return ResponseEntity.ok(boardService.getComment(commentId));
+            @PathVariable("commentId") Long commentId,  // 수정!
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, boardService.getCommentVersion(commentId),
+                () -> boardService.getComment(commentId));
     }
 
     // 특정 회원이 작성한 댓글 목록 조회
     @GetMapping("/comments/member/{memberId}")
     public ResponseEntity<List<BoardDto.CommentResponse>> getCommentsByMemberId(
-            @PathVariable("memberId") Long memberId) {  // 수정!
-        return ResponseEntity.ok(boardService.getCommentsByMemberId(memberId));
+            @PathVariable("memberId") Long memberId,  // 수정!
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, boardService.getCommentsVersionByMemberId(memberId),
+                () -> boardService.getCommentsByMemberId(memberId));
     }
 
     // 댓글 수정
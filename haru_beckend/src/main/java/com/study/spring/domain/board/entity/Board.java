@@ -13,7 +13,9 @@ import java.util.List;
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @Entity
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_member", columnList = "member_id, id")
+})
 @Getter
 @NoArgsConstructor
 public class Board {
@@ -38,6 +40,11 @@ public class Board {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 댓글 추가/수정/삭제 시 게시글 버전(updatedAt)도 올림 - 게시글 응답에 댓글이 포함되므로 ETag에 반영되도록
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_board", columnList = "boards_id, id"),
+        @Index(name = "idx_comments_member", columnList = "member_id, id")
+})
 @Getter
 @NoArgsConstructor
 public class Comment {
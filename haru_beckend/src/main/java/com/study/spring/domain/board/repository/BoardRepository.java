@@ -1,9 +1,24 @@
 package com.study.spring.domain.board.repository;
 
 import com.study.spring.domain.board.entity.Board;
+import com.study.spring.domain.common.dto.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
     List<Board> findByMemberId(Long memberId);
+
+    // 조건부 GET용 버전 (COUNT + MAX(updatedAt), 댓글 변경은 Board.touch()로 반영됨)
+    String BOARD_VERSION = "SELECT new com.study.spring.domain.common.dto.ResourceVersion(COUNT(b), MAX(b.updatedAt)) FROM Board b ";
+
+    @Query(BOARD_VERSION + "WHERE b.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    @Query(BOARD_VERSION)
+    ResourceVersion findVersion();
+
+    @Query(BOARD_VERSION + "WHERE b.member.id = :memberId")
+    ResourceVersion findVersionByMemberId(@Param("memberId") Long memberId);
 } 
\ No newline at end of file
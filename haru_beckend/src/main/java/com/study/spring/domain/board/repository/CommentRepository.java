@@ -1,10 +1,22 @@
 package com.study.spring.domain.board.repository;
 
 import com.study.spring.domain.board.entity.Comment;
+import com.study.spring.domain.common.dto.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByBoardId(Long boardId);
     List<Comment> findByMemberId(Long memberId);
+
+    // 조건부 GET용 버전 - 댓글에는 수정 시각이 없으므로 소속 게시글의 updatedAt(댓글 변경 시 갱신)을 사용
+    String COMMENT_VERSION = "SELECT new com.study.spring.domain.common.dto.ResourceVersion(COUNT(c), MAX(b.updatedAt)) FROM Comment c JOIN c.board b ";
+
+    @Query(COMMENT_VERSION + "WHERE c.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    @Query(COMMENT_VERSION + "WHERE c.member.id = :memberId")
+    ResourceVersion findVersionByMemberId(@Param("memberId") Long memberId);
 } 
\ No newline at end of file
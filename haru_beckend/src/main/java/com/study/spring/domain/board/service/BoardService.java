@@ -5,6 +5,7 @@ import com.study.spring.domain.board.entity.Board;
 import com.study.spring.domain.board.entity.Comment;
 import com.study.spring.domain.board.repository.BoardRepository;
 import com.study.spring.domain.board.repository.CommentRepository;
+import com.study.spring.domain.common.dto.ResourceVersion;
 import com.study.spring.domain.member.entity.Member;
 import com.study.spring.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -62,6 +63,28 @@ public class BoardService {
                 .collect(Collectors.toList());
     }
 
+    // ---- 조건부 GET(ETag/Last-Modified)용 버전 조회 ----
+
+    public ResourceVersion getBoardVersion(Long id) {
+        return boardRepository.findVersionById(id);
+    }
+
+    public ResourceVersion getBoardsVersion() {
+        return boardRepository.findVersion();
+    }
+
+    public ResourceVersion getBoardsVersionByMemberId(Long memberId) {
+        return boardRepository.findVersionByMemberId(memberId);
+    }
+
+    public ResourceVersion getCommentVersion(Long commentId) {
+        return commentRepository.findVersionById(commentId);
+    }
+
+    public ResourceVersion getCommentsVersionByMemberId(Long memberId) {
+        return commentRepository.findVersionByMemberId(memberId);
+    }
+
     @Transactional
     public BoardDto.Response updateBoard(Long id, BoardDto.Request request) {
         Board board = boardRepository.findById(id)
@@ -104,6 +127,7 @@ public class BoardService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
+        board.touch();
         Comment savedComment = commentRepository.save(comment);
         return BoardDto.CommentResponse.from(savedComment);
     }
@@ -141,6 +165,7 @@ public class BoardService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
 
         // 댓글 내용 수정
+        comment.getBoard().touch();
         Comment updatedComment = comment.toBuilder()
                 .content(request.getContent())
                 .build();
@@ -154,6 +179,7 @@ public class BoardService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
 
+        comment.getBoard().touch();
         commentRepository.delete(comment);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.study.spring.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조회 결과의 버전 (조건부 GET의 ETag / Last-Modified 계산용).
+ * JPQL 집계 projection으로 바로 생성: SELECT new ...ResourceVersion(COUNT(x), MAX(x.updatedAt))
+ * - 수정되면 MAX(updatedAt)이, 삭제되면 COUNT가 바뀜
+ */
+@Getter
+public class ResourceVersion {
+    private final long count;
+    private final LocalDateTime lastModified;
+
+    public ResourceVersion(Long count, LocalDateTime lastModified) {
+        this.count = count != null ? count : 0;
+        this.lastModified = lastModified;
+    }
+
+    public boolean isEmpty() {
+        return count == 0 || lastModified == null;
+    }
+
+    // 한 건의 버전이면 Last-Modified만으로도 변경 여부를 알 수 있음 (목록은 삭제를 놓침)
+    public boolean isSingle() {
+        return count == 1;
+    }
+
+    // 강한 ETag - "건수-마지막 수정시각(epoch 마이크로초, 16진수)"
+    public String getETag() {
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), lastModified);
+        return "\"" + count + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,59 @@
+package com.study.spring.domain.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서버 동시 호출 수 제한 (bulkhead).
+ * maxConcurrent 건이 진행 중이면 maxWait 동안 기다리고, 그래도 자리가 없으면 BulkheadFullException.
+ * 남은 자리는 bulkhead.available{name}, 거절 수는 bulkhead.rejected{name} 메트릭.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final Semaphore permits;
+    private final long maxWaitMillis;
+    private final Counter rejected;
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitMillis = maxWait.toMillis();
+
+        this.rejected = Counter.builder("bulkhead.rejected").tag("name", name)
+                .description("동시 호출 제한으로 거절된 호출 수").register(meterRegistry);
+        Gauge.builder("bulkhead.available", permits, Semaphore::availablePermits).tag("name", name)
+                .description("남은 동시 호출 자리").register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new BulkheadFullException(name);
+        }
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public static class BulkheadFullException extends RuntimeException {
+        public BulkheadFullException(String name) {
+            super("동시 호출 수 제한을 초과했습니다: " + name);
+        }
+    }
+}
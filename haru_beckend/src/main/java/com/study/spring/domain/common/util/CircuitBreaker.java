@@ -0,0 +1,132 @@
+package com.study.spring.domain.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서버 호출용 서킷 브레이커.
+ * - CLOSED: 정상 호출, recordFailure 에 해당하는 실패가 failureThreshold 번 연속되면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 바로 CallNotPermittedException (장애 서버를 기다리지 않음)
+ * - HALF_OPEN: openDuration 이 지나면 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ * 상태는 circuitbreaker.state{name,state} (현재 상태만 1), 호출 결과는 circuitbreaker.calls{name,kind} 메트릭.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Predicate<Throwable> recordFailure;
+
+    // 모든 상태 변경은 this 로 동기화
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private final Counter successful;
+    private final Counter failed;
+    private final Counter notPermitted;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration,
+                          Predicate<Throwable> recordFailure, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.recordFailure = recordFailure;
+
+        this.successful = Counter.builder("circuitbreaker.calls").tag("name", name).tag("kind", "successful")
+                .description("서킷 브레이커 호출 결과").register(meterRegistry);
+        this.failed = Counter.builder("circuitbreaker.calls").tag("name", name).tag("kind", "failed")
+                .description("서킷 브레이커 호출 결과").register(meterRegistry);
+        this.notPermitted = Counter.builder("circuitbreaker.calls").tag("name", name).tag("kind", "not_permitted")
+                .description("서킷 브레이커 호출 결과").register(meterRegistry);
+        for (State s : State.values()) {
+            Gauge.builder("circuitbreaker.state", this, cb -> cb.getState() == s ? 1 : 0)
+                    .tag("name", name).tag("state", s.name().toLowerCase(Locale.ROOT))
+                    .description("서킷 브레이커 상태 (현재 상태만 1)").register(meterRegistry);
+        }
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException | Error e) {
+            if (recordFailure.test(e)) {
+                onFailure();
+            } else {
+                // 서버가 응답은 했음 (예: 4xx) - 장애로 보지 않음
+                onSuccess();
+            }
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private synchronized void acquirePermission() {
+        long now = System.currentTimeMillis();
+        if (state == State.OPEN) {
+            if (now - openedAt < openMillis) {
+                notPermitted.increment();
+                throw new CallNotPermittedException(name, openedAt + openMillis - now);
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            // 시험 호출은 한 건만 (나머지는 결과가 나올 때까지 바로 거절)
+            if (probeInFlight) {
+                notPermitted.increment();
+                throw new CallNotPermittedException(name, 0);
+            }
+            probeInFlight = true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        successful.increment();
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    private synchronized void onFailure() {
+        failed.increment();
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            consecutiveFailures = 0;
+        }
+    }
+
+    // 서킷이 열려 있어 호출하지 않음
+    public static class CallNotPermittedException extends RuntimeException {
+        private final long retryAfterMillis;
+
+        public CallNotPermittedException(String name, long retryAfterMillis) {
+            super("서킷 브레이커가 열려 있어 호출하지 않습니다: " + name);
+            this.retryAfterMillis = retryAfterMillis;
+        }
+
+        public long getRetryAfterMillis() {
+            return retryAfterMillis;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.spring.domain.common.util;
+
+import com.study.spring.domain.common.dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET (If-None-Match / If-Modified-Since) 처리.
+ * If-Modified-Since는 단건 조회에만 적용하고, 목록은 If-None-Match로만 304를 반환한다.
+ * 버전(집계 쿼리 1번)이 클라이언트가 가진 값과 같으면 본문을 만들지 않고 304를 반환한다.
+ * 버전은 반드시 본문보다 먼저 조회할 것 - 그 사이에 수정이 생기면 다음 요청에서 다시 200이 나가도록.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<T> respond(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        // 결과가 없으면 검증자 없이 그대로 처리 (404/빈 목록 응답이 304로 바뀌지 않도록)
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        // ETag(, Last-Modified) 헤더도 여기서 설정됨
+        // 여러 건의 버전은 삭제돼도 MAX(updatedAt)이 그대로일 수 있으므로 Last-Modified 없이 ETag(건수 포함)로만 비교
+        boolean notModified = version.isSingle()
+                ? request.checkNotModified(version.getETag(), version.getLastModifiedMillis())
+                : request.checkNotModified(version.getETag());
+        if (notModified) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        // no-cache: 캐시는 하되 매번 재검증 (Last-Modified만 보고 임의로 캐시하지 않도록)
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.spring.domain.common.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 조회 파라미터 검증 (식사 기간 조회, 일일 영양 합계 조회/재계산에서 공통 사용).
+ */
+public final class DateRanges {
+
+    // from ~ to 사이 최대 일수 (to - from)
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private DateRanges() {
+    }
+
+    public static void validate(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.study.spring.domain.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 크기 제한(LRU) + 만료 시간(TTL)이 있는 간단한 in-process 캐시 (서버 인스턴스별).
+ * 메트릭은 Micrometer 캐시 메트릭 이름을 따름 (cache 태그 = 캐시 이름):
+ * cache.gets{result=hit|miss}, cache.evictions, cache.size
+ * 항목이 빠질 때(용량 초과, 만료, invalidate, clear) removalListener 가 캐시 lock 안에서 호출된다
+ * (보조 색인 정리용 - 리스너에서 다른 lock 을 잡지 말 것).
+ */
+public class LruTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final BiConsumer<K, V> removalListener;
+
+    // accessOrder=true 인 LinkedHashMap으로 LRU 구현 (모든 접근은 this 로 동기화)
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public LruTtlCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxSize, ttl, meterRegistry, (key, value) -> { });
+    }
+
+    public LruTtlCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry,
+                       BiConsumer<K, V> removalListener) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.removalListener = removalListener;
+
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit")
+                .description("캐시 조회").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss")
+                .description("캐시 조회").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name)
+                .description("용량 초과로 제거된 항목 수").register(meterRegistry);
+        Gauge.builder("cache.size", this, LruTtlCache::size).tag("cache", name)
+                .description("캐시된 항목 수").register(meterRegistry);
+    }
+
+    // 없거나 만료됐으면 null
+    public synchronized V get(K key) {
+        V value = peek(key);
+        if (value == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return value;
+    }
+
+    // 키를 몰라 get 을 부르지 못한 조회도 miss 로 집계 (보조 색인으로 찾는 캐시용)
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    // get 과 같지만 hit/miss 메트릭에 집계하지 않음 (이미 get 으로 miss 를 센 뒤 다시 확인할 때 사용)
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            removalListener.accept(key, entry.value);
+            entry = null;
+        }
+        return entry != null ? entry.value : null;
+    }
+
+    public synchronized void put(K key, V value) {
+        Entry<V> replaced = entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+        if (replaced != null) {
+            removalListener.accept(key, replaced.value);
+        }
+
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            Map.Entry<K, Entry<V>> removed = eldest.next();
+            eldest.remove();
+            removalListener.accept(removed.getKey(), removed.getValue().value);
+            evictions.increment();
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            removalListener.accept(key, removed.value);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.forEach((key, entry) -> removalListener.accept(key, entry.value));
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.study.spring.domain.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합친다 (single-flight).
+ * 먼저 온 요청만 실제로 loader 를 실행하고, 실행 중에 같은 키로 들어온 요청은 그 결과(또는 예외)를 함께 받는다.
+ * 완료된 결과는 보관하지 않으므로 캐시와 함께 사용한다.
+ * 합쳐진 호출 수는 singleflight.coalesced{name} 메트릭으로 확인.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.coalesced = Counter.builder("singleflight.coalesced").tag("name", name)
+                .description("진행 중인 호출에 합쳐진 요청 수").register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 대기 중이던 요청도 원래 요청과 같은 예외를 받도록 CompletionException 을 벗겨서 던짐
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
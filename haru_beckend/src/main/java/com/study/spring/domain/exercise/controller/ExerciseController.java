@@ -0,0 +1,56 @@
+package com.study.spring.domain.exercise.controller;
+
+import com.study.spring.domain.exercise.dto.ExerciseDto;
+import com.study.spring.domain.exercise.service.ExerciseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/exercises")
+@RequiredArgsConstructor
+public class ExerciseController {
+    private final ExerciseService exerciseService;
+
+    // 운동 이름 검색 (접두어 일치 먼저)
+    @GetMapping("/activities")
+    public ResponseEntity<List<ExerciseDto.Activity>> searchActivities(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(exerciseService.searchActivities(query, Math.max(1, Math.min(limit, 100))));
+    }
+
+    // 회원 체중 기준 소모 칼로리 계산 (기록하지 않음)
+    @GetMapping("/calories")
+    public ResponseEntity<ExerciseDto.CalorieResult> calculateCalories(
+            @RequestParam("memberId") Long memberId,
+            @RequestParam("activity") String activity,
+            @RequestParam("minutes") Integer minutes) {
+        return ResponseEntity.ok(exerciseService.calculate(memberId, activity, minutes));
+    }
+
+    @PostMapping("/sessions")
+    public ResponseEntity<ExerciseDto.SessionResponse> createSession(
+            @RequestParam("memberId") Long memberId,
+            @RequestBody ExerciseDto.SessionRequest request) {
+        return ResponseEntity.ok(exerciseService.createSession(memberId, request));
+    }
+
+    // date 가 있으면 그 날의 기록만
+    @GetMapping("/sessions/member/{memberId}")
+    public ResponseEntity<List<ExerciseDto.SessionResponse>> getSessions(
+            @PathVariable("memberId") Long memberId,
+            @RequestParam(value = "date", required = false) String dateStr) {
+        LocalDate date = dateStr != null ? LocalDate.parse(dateStr) : null;
+        return ResponseEntity.ok(exerciseService.getSessions(memberId, date));
+    }
+
+    @DeleteMapping("/sessions/{id}")
+    public ResponseEntity<Void> deleteSession(@PathVariable("id") Long id) {
+        exerciseService.deleteSession(id);
+        return ResponseEntity.noContent().build();
+    }
+}
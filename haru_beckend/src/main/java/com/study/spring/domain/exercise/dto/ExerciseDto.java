@@ -0,0 +1,73 @@
+package com.study.spring.domain.exercise.dto;
+
+import com.study.spring.domain.exercise.entity.ExerciseSession;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class ExerciseDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Activity {
+        private String name;
+        // 체중 1kg, 1시간 기준 소모 칼로리
+        private Float kcalPerKgHour;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CalorieResult {
+        private String activity;
+        private Integer durationMinutes;
+        private Float weight;
+        private Float kcalPerKgHour;
+        private Integer calories;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SessionRequest {
+        private String activity;
+        private Integer durationMinutes;
+        // 없으면 기록한 시각
+        private LocalDateTime performedAt;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SessionResponse {
+        private Long id;
+        private Long memberId;
+        private String activity;
+        private Integer durationMinutes;
+        private Float weight;
+        private Integer calories;
+        private LocalDateTime performedAt;
+        private LocalDateTime createdAt;
+
+        public static SessionResponse from(ExerciseSession session) {
+            return SessionResponse.builder()
+                    .id(session.getId())
+                    .memberId(session.getMemberId())
+                    .activity(session.getActivity())
+                    .durationMinutes(session.getDurationMinutes())
+                    .weight(session.getWeight())
+                    .calories(session.getCalories())
+                    .performedAt(session.getPerformedAt())
+                    .createdAt(session.getCreatedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.study.spring.domain.exercise.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+// 운동 기록 (소모 칼로리는 기록 시점의 회원 체중으로 계산해 저장)
+@AllArgsConstructor
+@Builder
+@Entity
+// 인덱스는 db/migration의 Flyway 스크립트로 생성 (여기 선언과 동일하게 유지)
+@Table(name = "exercise_sessions", indexes = {
+        // 회원별 날짜 / 기간 조회
+        @Index(name = "idx_exercise_sessions_member_performed", columnList = "member_id, performed_at, id")
+})
+@Getter
+@NoArgsConstructor
+public class ExerciseSession {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private String activity;
+
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationMinutes;
+
+    // 계산에 사용한 체중(kg)
+    @Column(nullable = false)
+    private Float weight;
+
+    @Column(nullable = false)
+    private Integer calories;
+
+    @Column(name = "performed_at", nullable = false)
+    private LocalDateTime performedAt;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (performedAt == null) {
+            performedAt = createdAt.withSecond(0).withNano(0);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.spring.domain.exercise.repository;
+
+import com.study.spring.domain.exercise.entity.ExerciseSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// (member_id, performed_at, id) 인덱스 사용
+public interface ExerciseSessionRepository extends JpaRepository<ExerciseSession, Long> {
+    List<ExerciseSession> findByMemberIdOrderByPerformedAtDescIdDesc(Long memberId);
+
+    List<ExerciseSession> findByMemberIdAndPerformedAtGreaterThanEqualAndPerformedAtLessThanOrderByPerformedAtDescIdDesc(
+            Long memberId, LocalDateTime start, LocalDateTime end);
+}
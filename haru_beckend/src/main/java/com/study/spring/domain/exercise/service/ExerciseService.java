@@ -0,0 +1,177 @@
+package com.study.spring.domain.exercise.service;
+
+import com.study.spring.domain.exercise.dto.ExerciseDto;
+import com.study.spring.domain.exercise.entity.ExerciseSession;
+import com.study.spring.domain.exercise.repository.ExerciseSessionRepository;
+import com.study.spring.domain.exercise.util.ExerciseDataset;
+import com.study.spring.domain.member.dto.MemberDto;
+import com.study.spring.domain.member.service.MemberProfileCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 운동 소모 칼로리 계산 / 운동 기록.
+ * 시작 시 운동 데이터(exercise_dataset.csv)를 메모리에 올려 두고 회원 체중으로 바로 계산 - 파이썬 서버를 거치지 않음.
+ * 파일은 exercise.dataset.path 로 지정하거나, 없으면 빌드에 포함된 classpath:exercise/exercise_dataset.csv 사용.
+ */
+@Slf4j
+@Service
+public class ExerciseService {
+
+    private static final String CLASSPATH_FILE = "exercise/exercise_dataset.csv";
+    // 하루를 넘는 운동 시간은 입력 오류로 봄
+    private static final int MAX_DURATION_MINUTES = 24 * 60;
+
+    private final ExerciseSessionRepository exerciseSessionRepository;
+    private final MemberProfileCache memberProfileCache;
+    private final ExerciseDataset dataset;
+
+    public ExerciseService(ExerciseSessionRepository exerciseSessionRepository,
+                           MemberProfileCache memberProfileCache,
+                           MeterRegistry meterRegistry,
+                           @Value("${exercise.dataset.path:}") String path) {
+        this.exerciseSessionRepository = exerciseSessionRepository;
+        this.memberProfileCache = memberProfileCache;
+        this.dataset = load(path);
+        log.info("운동 데이터: {}개 운동", dataset.size());
+
+        Gauge.builder("exercise.dataset.activities", dataset, ExerciseDataset::size)
+                .description("운동 소모 칼로리 데이터의 운동 수").register(meterRegistry);
+    }
+
+    public List<ExerciseDto.Activity> searchActivities(String query, int limit) {
+        List<ExerciseDto.Activity> activities = new ArrayList<>();
+        for (int i : dataset.search(query, limit)) {
+            activities.add(toActivity(i));
+        }
+        return activities;
+    }
+
+    public ExerciseDto.CalorieResult calculate(Long memberId, String activity, Integer durationMinutes) {
+        int index = findActivity(activity);
+        validateDuration(durationMinutes);
+        float weight = getWeight(memberId);
+        return ExerciseDto.CalorieResult.builder()
+                .activity(dataset.name(index))
+                .durationMinutes(durationMinutes)
+                .weight(weight)
+                .kcalPerKgHour(roundedFactor(index))
+                .calories(calories(index, weight, durationMinutes))
+                .build();
+    }
+
+    @Transactional
+    public ExerciseDto.SessionResponse createSession(Long memberId, ExerciseDto.SessionRequest request) {
+        int index = findActivity(request.getActivity());
+        validateDuration(request.getDurationMinutes());
+        float weight = getWeight(memberId);
+
+        ExerciseSession session = ExerciseSession.builder()
+                .memberId(memberId)
+                .activity(dataset.name(index))
+                .durationMinutes(request.getDurationMinutes())
+                .weight(weight)
+                .calories(calories(index, weight, request.getDurationMinutes()))
+                .performedAt(request.getPerformedAt())
+                .build();
+        return ExerciseDto.SessionResponse.from(exerciseSessionRepository.save(session));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExerciseDto.SessionResponse> getSessions(Long memberId, LocalDate date) {
+        List<ExerciseSession> sessions = date != null
+                ? exerciseSessionRepository.findByMemberIdAndPerformedAtGreaterThanEqualAndPerformedAtLessThanOrderByPerformedAtDescIdDesc(
+                        memberId, date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                : exerciseSessionRepository.findByMemberIdOrderByPerformedAtDescIdDesc(memberId);
+        return sessions.stream()
+                .map(ExerciseDto.SessionResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void deleteSession(Long id) {
+        if (!exerciseSessionRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동 기록을 찾을 수 없습니다.");
+        }
+        exerciseSessionRepository.deleteById(id);
+    }
+
+    private int findActivity(String activity) {
+        if (activity == null || activity.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "운동 이름을 입력해주세요.");
+        }
+        int index = dataset.indexOf(activity);
+        if (index < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동을 찾을 수 없습니다: " + activity);
+        }
+        return index;
+    }
+
+    private void validateDuration(Integer durationMinutes) {
+        if (durationMinutes == null || durationMinutes <= 0 || durationMinutes > MAX_DURATION_MINUTES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "운동 시간은 1분 이상 1440분 이하로 입력해주세요.");
+        }
+    }
+
+    private float getWeight(Long memberId) {
+        MemberDto.Profile member = memberProfileCache.findById(memberId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
+        if (member.getWeight() == null || member.getWeight() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "회원 체중 정보가 없습니다.");
+        }
+        return member.getWeight();
+    }
+
+    // 소모 칼로리 = 체중(kg) x 시간(h) x 체중 1kg 당 시간당 소모 칼로리
+    private int calories(int index, float weight, int durationMinutes) {
+        return Math.round(dataset.kcalPerKgHour(index) * weight * durationMinutes / 60f);
+    }
+
+    private ExerciseDto.Activity toActivity(int index) {
+        return ExerciseDto.Activity.builder()
+                .name(dataset.name(index))
+                .kcalPerKgHour(roundedFactor(index))
+                .build();
+    }
+
+    private float roundedFactor(int index) {
+        return Math.round(dataset.kcalPerKgHour(index) * 100) / 100f;
+    }
+
+    private static ExerciseDataset load(String path) {
+        try {
+            if (path != null && !path.isBlank()) {
+                try (InputStream in = Files.newInputStream(Paths.get(path))) {
+                    return ExerciseDataset.read(in);
+                }
+            }
+            ClassPathResource resource = new ClassPathResource(CLASSPATH_FILE);
+            if (!resource.exists()) {
+                log.warn("운동 데이터 파일이 없습니다 (classpath:{}) - 운동 칼로리 계산을 사용할 수 없음", CLASSPATH_FILE);
+                return ExerciseDataset.empty();
+            }
+            try (InputStream in = resource.getInputStream()) {
+                return ExerciseDataset.read(in);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("운동 데이터 로딩 실패 ({}) - 운동 칼로리 계산을 사용할 수 없음", path, e);
+            return ExerciseDataset.empty();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.study.spring.domain.exercise.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 운동별 시간당 소모 칼로리 표 (haru_python/data/exercise_dataset.csv).
+ * CSV: "Activity, Exercise or Sport (1 hour)",130 lb,155 lb,180 lb,205 lb,Calories per kg
+ * - 마지막 "Calories per kg" 컬럼은 단위가 맞지 않아(lb 기준 값을 한 번 더 나눈 값) 쓰지 않고,
+ *   네 체중 컬럼의 칼로리 합 / 체중(kg) 합으로 체중 1kg 당 시간당 소모 칼로리를 계산한다.
+ * - 운동 이름은 정규화 키(소문자, 글자/숫자만) 오름차순으로 정렬해 기본형 배열에 컬럼별로 저장.
+ *   정확히 일치하는 이름은 이진 탐색, 검색은 접두어 일치 -> 부분 일치 순.
+ */
+public final class ExerciseDataset {
+
+    private static final float[] WEIGHT_LB = {130, 155, 180, 205};
+    private static final double KG_PER_LB = 0.45359237;
+
+    private final String[] keys;           // 정규화 이름, 오름차순
+    private final String[] names;          // CSV 원래 이름
+    private final float[] kcalPerKgHour;   // 체중 1kg, 1시간 기준 소모 칼로리
+
+    private ExerciseDataset(String[] keys, String[] names, float[] kcalPerKgHour) {
+        this.keys = keys;
+        this.names = names;
+        this.kcalPerKgHour = kcalPerKgHour;
+    }
+
+    public static ExerciseDataset empty() {
+        return new ExerciseDataset(new String[0], new String[0], new float[0]);
+    }
+
+    public static ExerciseDataset read(InputStream in) throws IOException {
+        List<String> rowNames = new ArrayList<>();
+        List<String> rowKeys = new ArrayList<>();
+        List<Float> rowFactors = new ArrayList<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 || line.isBlank()) {
+                continue;  // 헤더
+            }
+            List<String> cols = splitCsvLine(line);
+            if (cols.size() < 1 + WEIGHT_LB.length) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄 컬럼 수가 부족합니다: " + line);
+            }
+            String key = normalize(cols.get(0));
+            if (key.isEmpty()) {
+                continue;
+            }
+
+            double calories = 0;
+            double kilograms = 0;
+            for (int i = 0; i < WEIGHT_LB.length; i++) {
+                calories += Double.parseDouble(cols.get(1 + i).trim());
+                kilograms += WEIGHT_LB[i] * KG_PER_LB;
+            }
+            rowNames.add(cols.get(0).trim());
+            rowKeys.add(key);
+            rowFactors.add((float) (calories / kilograms));
+        }
+
+        Integer[] order = new Integer[rowKeys.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> rowKeys.get(a).compareTo(rowKeys.get(b)));
+
+        // 키가 같은 행은 처음 것만 사용
+        String[] keys = new String[order.length];
+        String[] names = new String[order.length];
+        float[] factors = new float[order.length];
+        int size = 0;
+        for (int row : order) {
+            if (size > 0 && keys[size - 1].equals(rowKeys.get(row))) {
+                continue;
+            }
+            keys[size] = rowKeys.get(row);
+            names[size] = rowNames.get(row);
+            factors[size] = rowFactors.get(row);
+            size++;
+        }
+        return new ExerciseDataset(Arrays.copyOf(keys, size), Arrays.copyOf(names, size), Arrays.copyOf(factors, size));
+    }
+
+    // 대소문자, 띄어쓰기, 문장부호 차이 무시 ("Cycling, mountain bike" == "cycling mountain bike")
+    public static String normalize(String name) {
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public float kcalPerKgHour(int index) {
+        return kcalPerKgHour[index];
+    }
+
+    // 정규화 이름이 정확히 같은 운동의 위치, 없으면 -1
+    public int indexOf(String name) {
+        int i = Arrays.binarySearch(keys, normalize(name));
+        return i >= 0 ? i : -1;
+    }
+
+    // 접두어가 일치하는 운동 먼저(이름 순), 이어서 이름 중간에 포함된 운동 (최대 limit 개의 위치)
+    public int[] search(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        int[] found = new int[Math.min(limit, keys.length)];
+        int count = 0;
+
+        int from = lowerBound(key);
+        int to = lowerBound(key + Character.MAX_VALUE);
+        for (int i = from; i < to && count < found.length; i++) {
+            found[count++] = i;
+        }
+        for (int i = 0; i < keys.length && count < found.length; i++) {
+            if ((i < from || i >= to) && keys[i].contains(key)) {
+                found[count++] = i;
+            }
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    private int lowerBound(String key) {
+        int i = Arrays.binarySearch(keys, key);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    // 큰따옴표로 감싼 컬럼 안의 쉼표 / "" 이스케이프 처리
+    static List<String> splitCsvLine(String line) {
+        List<String> cols = new ArrayList<>();
+        StringBuilder col = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    col.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    col.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cols.add(col.toString());
+                col.setLength(0);
+            } else {
+                col.append(c);
+            }
+        }
+        cols.add(col.toString());
+        return cols;
+    }
+}
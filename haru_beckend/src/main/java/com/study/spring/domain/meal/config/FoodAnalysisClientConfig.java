@@ -0,0 +1,85 @@
+package com.study.spring.domain.meal.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 파이썬 음식 분석 서버 전용 HTTP 클라이언트.
+ * - 커넥션 풀 사용 (keep-alive 재사용), 서버당 동시 연결 수 제한
+ * - 연결/응답/풀 대기 타임아웃 - 모델이 느려져도 Tomcat 스레드가 무한정 묶이지 않도록
+ * - RestTemplateBuilder 로 만들어 호출 지연 시간이 http.client.requests 메트릭으로 집계됨
+ *   (풀 상태는 food.analysis.client.connections{state=leased|available|pending})
+ */
+@Configuration
+public class FoodAnalysisClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager foodAnalysisConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${food.analysis.client.max-connections:50}") int maxConnections,
+            @Value("${food.analysis.client.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${food.analysis.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${food.analysis.client.read-timeout-ms:30000}") long readTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        // 오래된 연결은 재사용하지 않음 (파이썬 서버 재시작 등)
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        Gauge.builder("food.analysis.client.connections", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .tag("state", "leased").description("파이썬 분석 서버 커넥션 풀").register(meterRegistry);
+        Gauge.builder("food.analysis.client.connections", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .tag("state", "available").description("파이썬 분석 서버 커넥션 풀").register(meterRegistry);
+        Gauge.builder("food.analysis.client.connections", connectionManager, cm -> cm.getTotalStats().getPending())
+                .tag("state", "pending").description("파이썬 분석 서버 커넥션 풀").register(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient foodAnalysisHttpClient(
+            @Qualifier("foodAnalysisConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            @Value("${food.analysis.client.connection-request-timeout-ms:2000}") long connectionRequestTimeoutMs,
+            @Value("${food.analysis.client.read-timeout-ms:30000}") long readTimeoutMs) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀에 남은 연결이 없을 때 기다리는 최대 시간 (서버당 동시 호출 제한)
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate foodAnalysisRestTemplate(
+            RestTemplateBuilder builder,
+            @Qualifier("foodAnalysisHttpClient") CloseableHttpClient httpClient,
+            @Value("${food.analysis.base-url:http://localhost:8000}") String baseUrl) {
+        return builder
+                .rootUri(baseUrl)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+}
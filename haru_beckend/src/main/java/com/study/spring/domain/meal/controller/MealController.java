@@ -1,153 +1,154 @@
 package com.study.spring.domain.meal.controller;
 
+import com.study.spring.domain.common.util.ConditionalGet;
 import com.study.spring.domain.meal.dto.MealDto;
 import com.study.spring.domain.meal.entity.Meal;
+import com.study.spring.domain.meal.exception.AnalysisUnavailableException;
 import com.study.spring.domain.meal.entity.MealType;
+import com.study.spring.domain.meal.service.DailyNutritionService;
+import com.study.spring.domain.meal.service.FoodAnalysisService;
+import com.study.spring.domain.meal.service.FoodAutocompleteService;
+import com.study.spring.domain.meal.service.MealImportService;
 import com.study.spring.domain.meal.service.MealService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.net.URL;
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
-import java.util.Base64;
+import java.io.IOException;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/meals")
 @RequiredArgsConstructor
 public class MealController {
     private final MealService mealService;
-    private final RestTemplate restTemplate;
+    private final DailyNutritionService dailyNutritionService;
+    private final MealImportService mealImportService;
+    private final FoodAnalysisService foodAnalysisService;
+    private final FoodAutocompleteService foodAutocompleteService;
+
+    @Value("${food.analysis.batch.max-items:20}")
+    private int analysisBatchMaxItems;
 
     // 파이썬 서버의 텍스트 분석 엔드포인트 호출
     @PostMapping("/analyze-food-text")
-    public ResponseEntity<?> analyzeFoodText(@RequestBody Map<String, String> request) {
-        try {
-            String foodName = request.get("food_name");
-            if (foodName == null || foodName.trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("error", "음식 이름을 입력해주세요"));
-            }
+    public CompletableFuture<ResponseEntity<?>> analyzeFoodText(@RequestBody Map<String, String> request) {
+        String foodName = request.get("food_name");
+        if (foodName == null || foodName.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(Map.of("error", "음식 이름을 입력해주세요")));
+        }
+
+        // 파이썬 서버에 요청 (같은 음식 이름은 캐시된 결과 사용)
+        return respondAsync(() -> foodAnalysisService.analyzeTextAsync(foodName), "음식 분석");
+    }
 
-            // 파이썬 서버 URL (실제 서버 주소로 변경 필요)
-            String pythonServerUrl = "http://localhost:8000/api/food/analyze/text";
-            
-            // 요청 데이터 준비
-            Map<String, String> requestBody = Map.of("food_name", foodName);
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            // HTTP 엔티티 생성
-            HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
-            
-            // 파이썬 서버에 요청
-            ResponseEntity<Map> response = restTemplate.exchange(
-                pythonServerUrl,
-                HttpMethod.POST,
-                entity,
-                Map.class
-            );
-            
-            return ResponseEntity.ok(response.getBody());
-            
-        } catch (Exception e) {
-            System.err.println("음식 분석 중 오류 발생: " + e.getMessage());
-            return ResponseEntity.status(500).body(Map.of(
-                "error", "음식 분석 중 오류가 발생했습니다",
-                "details", e.getMessage()
-            ));
+    // 이미지 분석 엔드포인트
+    @PostMapping("/analyze-food-image")
+    public CompletableFuture<ResponseEntity<?>> analyzeFoodImage(@RequestBody Map<String, Object> request) {
+        Object imageUrlObj = request.get("image_url");
+        String imageUrl = null;
+
+        if (imageUrlObj instanceof String) {
+            imageUrl = (String) imageUrlObj;
+        } else if (imageUrlObj instanceof Map) {
+            // 만약 image_url이 객체로 들어온 경우
+            Map<String, Object> imageUrlMap = (Map<String, Object>) imageUrlObj;
+            imageUrl = (String) imageUrlMap.get("url");
         }
+
+        if (imageUrl == null || imageUrl.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(Map.of("error", "이미지 URL을 입력해주세요")));
+        }
+
+        log.debug("Received image_url: {}", imageUrl);
+
+        // 파이썬 서버에 요청 (같은 사진은 SHA-256 으로 캐시된 결과 사용)
+        String url = imageUrl;
+        return respondAsync(() -> foodAnalysisService.analyzeImageAsync(url), "이미지 분석");
     }
 
-    // 이미지 URL을 base64로 변환하는 유틸리티 메서드
-    private String convertImageUrlToBase64(String imageUrl) {
-        try {
-            URL url = new URL(imageUrl);
-            try (InputStream inputStream = url.openStream();
-                 ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                
-                byte[] buffer = new byte[4096];
-                int bytesRead;
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, bytesRead);
-                }
-                
-                byte[] imageBytes = outputStream.toByteArray();
-                return Base64.getEncoder().encodeToString(imageBytes);
-            }
-        } catch (Exception e) {
-            System.err.println("이미지 URL을 base64로 변환 중 오류: " + e.getMessage());
-            throw new RuntimeException("이미지를 base64로 변환할 수 없습니다", e);
+    // 여러 음식을 한 번에 분석 (음식 이름 목록 / 이미지 URL 목록, 병렬 실행)
+    // { "food_names": ["김치찌개", "공깃밥"], "image_urls": ["https://..."] } -> { "results": [항목별 결과] }
+    @PostMapping("/analyze-food-batch")
+    public CompletableFuture<ResponseEntity<?>> analyzeFoodBatch(@RequestBody Map<String, List<String>> request) {
+        List<String> foodNames = request.getOrDefault("food_names", List.of()).stream()
+                .filter(name -> name != null && !name.trim().isEmpty())
+                .toList();
+        List<String> imageUrls = request.getOrDefault("image_urls", List.of()).stream()
+                .filter(url -> url != null && !url.trim().isEmpty())
+                .toList();
+
+        int total = foodNames.size() + imageUrls.size();
+        if (total == 0) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(Map.of("error", "분석할 음식 이름이나 이미지 URL을 입력해주세요")));
+        }
+        if (total > analysisBatchMaxItems) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(
+                    Map.of("error", "한 번에 최대 " + analysisBatchMaxItems + "개까지 분석할 수 있습니다")));
         }
+
+        return foodAnalysisService.analyzeBatchAsync(foodNames, imageUrls)
+                .thenApply(results -> ResponseEntity.ok(Map.of("results", results)));
     }
 
-    // 이미지 분석 엔드포인트
-    @PostMapping("/analyze-food-image")
-    public ResponseEntity<?> analyzeFoodImage(@RequestBody Map<String, Object> request) {
+    // 분석은 전용 스레드 풀에서 실행 - 기다리는 동안 요청 스레드는 반환됨
+    // 분석 서버를 사용할 수 없으면(장애/과부하/대기열 초과) 503 + Retry-After, 그 외 분석 중 오류는 기존과 같이 500
+    private CompletableFuture<ResponseEntity<?>> respondAsync(
+            Supplier<CompletableFuture<Map<String, Object>>> analysis, String label) {
         try {
-            Object imageUrlObj = request.get("image_url");
-            String imageUrl = null;
-            
-            if (imageUrlObj instanceof String) {
-                imageUrl = (String) imageUrlObj;
-            } else if (imageUrlObj instanceof Map) {
-                // 만약 image_url이 객체로 들어온 경우
-                Map<String, Object> imageUrlMap = (Map<String, Object>) imageUrlObj;
-                imageUrl = (String) imageUrlMap.get("url");
-            }
-            
-            if (imageUrl == null || imageUrl.trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("error", "이미지 URL을 입력해주세요"));
-            }
+            return analysis.get()
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> analysisErrorResponse(
+                            e instanceof CompletionException && e.getCause() != null ? e.getCause() : e, label));
+        } catch (AnalysisUnavailableException e) {
+            return CompletableFuture.completedFuture(analysisErrorResponse(e, label));
+        }
+    }
 
-            System.out.println("Received image_url: " + imageUrl);
-
-            // 이미지 URL을 base64로 변환
-            String base64Image = convertImageUrlToBase64(imageUrl);
-            
-            // 파이썬 서버 URL
-            String pythonServerUrl = "http://localhost:8000/api/food/analyze";
-            
-            // 요청 데이터 준비 (base64 이미지 포함)
-            Map<String, String> requestBody = Map.of("image_url", base64Image);
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            // HTTP 엔티티 생성
-            HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
-            
-            // 파이썬 서버에 요청
-            ResponseEntity<Map> response = restTemplate.exchange(
-                pythonServerUrl,
-                HttpMethod.POST,
-                entity,
-                Map.class
-            );
-            
-            return ResponseEntity.ok(response.getBody());
-            
-        } catch (Exception e) {
-            System.err.println("이미지 분석 중 오류 발생: " + e.getMessage());
-            return ResponseEntity.status(500).body(Map.of(
-                "error", "이미지 분석 중 오류가 발생했습니다",
-                "details", e.getMessage()
-            ));
+    private ResponseEntity<?> analysisErrorResponse(Throwable cause, String label) {
+        if (cause instanceof AnalysisUnavailableException unavailable) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(unavailable.getRetryAfterSeconds()))
+                    .body(Map.of(
+                        "error", unavailable.getMessage(),
+                        "code", "ANALYSIS_UNAVAILABLE",
+                        "reason", unavailable.getReason(),
+                        "retryAfterSeconds", unavailable.getRetryAfterSeconds()
+                    ));
         }
+        log.error("{} 중 오류 발생", label, cause);
+        return ResponseEntity.status(500).body(Map.of(
+            "error", label + " 중 오류가 발생했습니다",
+            "details", String.valueOf(cause.getMessage())
+        ));
+    }
+
+    // 음식 이름 자동완성 (기록된 음식 이름을 많이 쓰인 순으로, 띄어쓰기/대소문자 무시)
+    @GetMapping("/foods/autocomplete")
+    public ResponseEntity<List<MealDto.FoodSuggestion>> autocompleteFoodName(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(foodAutocompleteService.suggest(query, Math.min(Math.max(limit, 1), 50)));
     }
 
     // 식사 기록 생성
@@ -257,6 +258,14 @@ public class MealController {
         return ResponseEntity.ok(mealService.createMeal(memberId, request));
     }
 
+    // 식사 기록 대량 import (다른 앱에서 이전) - 본문은 MealDto.Request JSON 배열, 스트리밍으로 처리
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MealDto.ImportResult> importMeals(
+            @RequestParam("memberId") Long memberId,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(mealImportService.importMeals(memberId, request.getInputStream()));
+    }
+
     // 테스트용 엔드포인트
     @PostMapping("/test")
     public ResponseEntity<String> testEndpoint(@RequestBody Object data) {
@@ -265,48 +274,123 @@ public class MealController {
         System.out.println("Data type: " + data.getClass().getName());
         return ResponseEntity.ok("Test endpoint called successfully");
     }
+    // 조회 API는 ETag/Last-Modified를 내려주고, 변경이 없으면 304 (ConditionalGet)
     @GetMapping("/{id}")
-    public ResponseEntity<MealDto.Response> getMeal(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(mealService.getMeal(id));
+    public ResponseEntity<MealDto.Response> getMeal(@PathVariable("id") Long id, WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, mealService.getMealVersion(id),
+                () -> mealService.getMeal(id));
     }
 
     // 전체 식사 기록 조회
     @GetMapping
-    public ResponseEntity<List<MealDto.Response>> getAllMeals() {
-        return ResponseEntity.ok(mealService.getAllMeals());
+    public ResponseEntity<List<MealDto.Response>> getAllMeals(WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, mealService.getMealsVersion(),
+                mealService::getAllMeals);
     }
 
     // 회원별 식사 기록 조회
     @GetMapping("/member/{memberId}")
     public ResponseEntity<List<MealDto.Response>> getMealsByMemberId(
-            @PathVariable("memberId") Long memberId) {  // 이름 명시
-        return ResponseEntity.ok(mealService.getMealsByMemberId(memberId));
+            @PathVariable("memberId") Long memberId,  // 이름 명시
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, mealService.getMealsVersionByMemberId(memberId),
+                () -> limit != null
+                        ? mealService.getMealsByMemberId(memberId, limit)
+                        : mealService.getMealsByMemberId(memberId));
+    }
+
+    // 회원별 식사 타임라인 (커서 기반 페이지네이션)
+    @GetMapping("/member/{memberId}/timeline")
+    public ResponseEntity<MealDto.TimelineResponse> getMealTimeline(
+            @PathVariable("memberId") Long memberId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, mealService.getMealsVersionByMemberId(memberId),
+                () -> mealService.getMealTimeline(memberId, cursor, size));
     }
 
     // 회원별 + 식사타입별 조회
     @GetMapping("/member/{memberId}/type/{mealType}")
     public ResponseEntity<List<MealDto.Response>> getMealsByMemberIdAndMealType(
             @PathVariable("memberId") Long memberId,
-            @PathVariable("mealType") MealType mealType) {
-        return ResponseEntity.ok(mealService.getMealsByMemberIdAndMealType(memberId, mealType));
+            @PathVariable("mealType") MealType mealType,
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, mealService.getMealsVersionByMemberIdAndMealType(memberId, mealType),
+                () -> mealService.getMealsByMemberIdAndMealType(memberId, mealType));
+    }
+
+    // 회원별 + 식사타입별 타임라인 (커서 기반 페이지네이션)
+    @GetMapping("/member/{memberId}/type/{mealType}/timeline")
+    public ResponseEntity<MealDto.TimelineResponse> getMealTimelineByMealType(
+            @PathVariable("memberId") Long memberId,
+            @PathVariable("mealType") MealType mealType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, mealService.getMealsVersionByMemberIdAndMealType(memberId, mealType),
+                () -> mealService.getMealTimeline(memberId, mealType, cursor, size));
     }
 
     // updatedAt 날짜로 식사 기록 조회
     @GetMapping("/modified-date")
-    public ResponseEntity<List<MealDto.Response>> getMealsByModifiedDate(@RequestParam("date") String dateStr) {
+    public ResponseEntity<List<MealDto.Response>> getMealsByModifiedDate(@RequestParam("date") String dateStr, WebRequest webRequest) {
         LocalDate date = LocalDate.parse(dateStr);
-        return ResponseEntity.ok(mealService.getMealsByModifiedDate(date));
+        return ConditionalGet.respond(webRequest, mealService.getMealsVersionByModifiedDate(date),
+                () -> mealService.getMealsByModifiedDate(date));
     }
 
     // 회원별 + modifiedAt 날짜로 식사 기록 조회
     @GetMapping("/modified-date/member/{memberId}")
-    public ResponseEntity<?> getMealsByMemberIdAndModifiedDate(@PathVariable("memberId") Long memberId, @RequestParam("date") String dateStr) {
+    public ResponseEntity<?> getMealsByMemberIdAndModifiedDate(@PathVariable("memberId") Long memberId, @RequestParam("date") String dateStr, WebRequest webRequest) {
         LocalDate date = LocalDate.parse(dateStr);
-        List<MealDto.Response> result = mealService.getMealsByMemberIdAndModifiedDate(memberId, date);
-        if (result.isEmpty()) {
-            return ResponseEntity.ok(Collections.singletonMap("message", "nodata"));
-        }
-        return ResponseEntity.ok(result);
+        return ConditionalGet.respond(webRequest, mealService.getMealsVersionByMemberIdAndDateRange(memberId, date, date), () -> {
+            List<MealDto.Response> result = mealService.getMealsByMemberIdAndModifiedDate(memberId, date);
+            if (result.isEmpty()) {
+                return Collections.singletonMap("message", "nodata");
+            }
+            return result;
+        });
+    }
+
+    // 회원별 + 기간(from~to, 포함) 식사 기록 조회 - 날짜별로 묶어서 반환, 기록 없는 날은 nodata
+    @GetMapping("/date-range/member/{memberId}")
+    public ResponseEntity<?> getMealsByMemberIdAndDateRange(
+            @PathVariable("memberId") Long memberId,
+            @RequestParam("from") String fromStr,
+            @RequestParam("to") String toStr,
+            WebRequest webRequest) {
+        LocalDate from = LocalDate.parse(fromStr);
+        LocalDate to = LocalDate.parse(toStr);
+        return ConditionalGet.respond(webRequest, mealService.getMealsVersionByMemberIdAndDateRange(memberId, from, to), () -> {
+            Map<LocalDate, List<MealDto.Response>> mealsByDate = mealService.getMealsByMemberIdAndDateRange(memberId, from, to);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            mealsByDate.forEach((date, meals) -> result.put(date.toString(),
+                    meals.isEmpty() ? Collections.singletonMap("message", "nodata") : meals));
+            return result;
+        });
+    }
+
+    // 회원별 일일 영양 합계 기간 조회 (from, to 포함)
+    @GetMapping("/daily-nutrition/member/{memberId}")
+    public ResponseEntity<List<MealDto.DailyNutritionResponse>> getDailyNutrition(
+            @PathVariable("memberId") Long memberId,
+            @RequestParam("from") String fromStr,
+            @RequestParam("to") String toStr) {
+        return ResponseEntity.ok(dailyNutritionService.getDailyNutrition(
+                memberId, LocalDate.parse(fromStr), LocalDate.parse(toStr)));
+    }
+
+    // 기존 식사 기록으로 일일 영양 합계 재계산
+    @PostMapping("/daily-nutrition/member/{memberId}/rebuild")
+    public ResponseEntity<List<MealDto.DailyNutritionResponse>> rebuildDailyNutrition(
+            @PathVariable("memberId") Long memberId,
+            @RequestParam("from") String fromStr,
+            @RequestParam("to") String toStr) {
+        return ResponseEntity.ok(dailyNutritionService.rebuild(
+                memberId, LocalDate.parse(fromStr), LocalDate.parse(toStr)));
     }
 
     // modifiedAt(문자열)로 식사 기록 조회
@@ -326,15 +410,24 @@ public class MealController {
         return ResponseEntity.ok(mealService.updateMeal(id, request));
     }
 
+    // 식사 기록 부분 수정 (전달된 필드만 변경)
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchMeal(
+            @PathVariable("id") Long id,
+            @RequestBody MealDto.PatchRequest request) {
+        mealService.patchMeal(id, request);
+        return ResponseEntity.noContent().build();
+    }
+
     // 식사 이미지만 수정
-    // @PatchMapping("/{id}/image")
-    // public ResponseEntity<Void> updateMealImage(
-    //         @PathVariable("id") Long id,
-    //         @RequestBody Map<String, String> body) {
-    //     String imageUrl = body.get("imageUrl");
-    //     mealService.updateMealImage(id, imageUrl);
-    //     return ResponseEntity.noContent().build();
-    // }
+    @PatchMapping("/{id}/image")
+    public ResponseEntity<Void> updateMealImage(
+            @PathVariable("id") Long id,
+            @RequestBody Map<String, String> body) {
+        String imageUrl = body.get("imageUrl");
+        mealService.updateMealImage(id, imageUrl);
+        return ResponseEntity.noContent().build();
+    }
 
     // 식사 이미지 업로드
     // @PatchMapping(value = "/{id}/image-upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -1,5 +1,6 @@
 package com.study.spring.domain.meal.dto;
 
+import com.study.spring.domain.meal.entity.DailyNutrition;
 import com.study.spring.domain.meal.entity.Food;
 import com.study.spring.domain.meal.entity.Meal;
 import com.study.spring.domain.meal.entity.MealType;
@@ -8,9 +9,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,6 +34,20 @@ public class MealDto {
         private Double recordWeight;
     }
 
+    // PATCH용 - null인 필드는 변경하지 않음 (음식 목록은 PUT으로 수정)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Builder
+    public static class PatchRequest {
+        private MealType mealType;
+        private String imageUrl;
+        private String memo;
+        private LocalDateTime modifiedAt;
+        private Integer totalCalories;
+        private Double recordWeight;
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
@@ -48,8 +66,13 @@ public class MealDto {
         private Integer totalCalories;
 
         public static Response from(Meal meal) {
-            List<FoodResponse> foods = meal.getFoods() != null ? 
-                    meal.getFoods().stream()
+            return from(meal, meal.getFoods());
+        }
+
+        // 음식 목록을 엔티티 컬렉션 대신 따로 넘길 때 (foods를 JDBC로 저장한 직후 등)
+        public static Response from(Meal meal, List<Food> mealFoods) {
+            List<FoodResponse> foods = mealFoods != null ? 
+                    mealFoods.stream()
                             .map(FoodResponse::from)
                             .collect(Collectors.toList()) : 
                     new ArrayList<>();
@@ -73,6 +96,76 @@ public class MealDto {
                     .totalCalories(totalCalories)
                     .build();
         }
+
+        // projection 조회 결과로 응답 생성 (엔티티를 거치지 않음)
+        public static Response of(MealRow row, List<FoodResponse> foods) {
+            Integer totalCalories = foods.stream()
+                    .mapToInt(food -> food.getCalories() != null ? food.getCalories() : 0)
+                    .sum();
+
+            return Response.builder()
+                    .id(row.getId())
+                    .memberId(row.getMemberId())
+                    .mealType(row.getMealType())
+                    .imageUrl(row.getImageUrl())
+                    .memo(row.getMemo())
+                    .foods(foods)
+                    .createdAt(row.getCreatedAt() != null ? row.getCreatedAt().toLocalDate() : null)
+                    .updatedAt(row.getUpdatedAt() != null ? row.getUpdatedAt().toLocalDate() : null)
+                    .modifiedAt(row.getModifiedAt())
+                    .recordWeight(row.getRecordWeight())
+                    .totalCalories(totalCalories)
+                    .build();
+        }
+    }
+
+    // 목록 조회용 읽기 전용 projection - JPQL constructor expression으로 바로 생성되어
+    // 영속성 컨텍스트에 엔티티/스냅샷이 쌓이지 않음 (생성자 파라미터 순서 = 필드 순서)
+    @AllArgsConstructor
+    @Getter
+    public static class MealRow {
+        private Long id;
+        private Long memberId;
+        private MealType mealType;
+        private String imageUrl;
+        private String memo;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime modifiedAt;
+        private Double recordWeight;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class FoodRow {
+        private Long mealId;
+        private Long id;
+        private String foodName;
+        private Integer calories;
+        private Float carbohydrate;
+        private Float protein;
+        private Float fat;
+        private Float sodium;
+        private Float fiber;
+        private String foodCategory;
+        private Integer totalAmount;
+        private Integer quantity;
+
+        public FoodResponse toResponse() {
+            return FoodResponse.builder()
+                    .id(id)
+                    .foodName(foodName)
+                    .calories(calories)
+                    .carbohydrate(carbohydrate)
+                    .protein(protein)
+                    .fat(fat)
+                    .sodium(sodium)
+                    .fiber(fiber)
+                    .foodCategory(foodCategory)
+                    .totalAmount(totalAmount)
+                    .quantity(quantity)
+                    .build();
+        }
     }
 
     @NoArgsConstructor
@@ -125,4 +218,127 @@ public class MealDto {
                     .build();
         }
     }
-} 
\ No newline at end of file
+
+    // 타임라인 페이지 응답 (커서 기반)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Builder
+    public static class TimelineResponse {
+        private List<Response> meals;
+        private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+
+    // 타임라인 커서: 마지막으로 내려준 식사의 (modifiedAt, id)를 불투명 토큰으로 인코딩
+    @AllArgsConstructor
+    @Getter
+    public static class Cursor {
+        private LocalDateTime modifiedAt;
+        private Long id;
+
+        public static Cursor of(MealRow row) {
+            return new Cursor(row.getModifiedAt(), row.getId());
+        }
+
+        public String encode() {
+            String raw = modifiedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 잘못된 토큰이면 IllegalArgumentException
+        public static Cursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, sep)),
+                        Long.valueOf(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + token, e);
+            }
+        }
+    }
+
+    // 일일 영양 합계 응답
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Builder
+    public static class DailyNutritionResponse {
+        private LocalDate date;
+        private Integer calories;
+        private Double carbohydrate;
+        private Double protein;
+        private Double fat;
+        private Double sodium;
+        private Double fiber;
+        private Integer mealCount;
+
+        public static DailyNutritionResponse from(DailyNutrition dailyNutrition) {
+            return DailyNutritionResponse.builder()
+                    .date(dailyNutrition.getDate())
+                    .calories(dailyNutrition.getCalories())
+                    .carbohydrate(dailyNutrition.getCarbohydrate())
+                    .protein(dailyNutrition.getProtein())
+                    .fat(dailyNutrition.getFat())
+                    .sodium(dailyNutrition.getSodium())
+                    .fiber(dailyNutrition.getFiber())
+                    .mealCount(dailyNutrition.getMealCount())
+                    .build();
+        }
+    }
+
+    // 대량 import 결과 (실패한 레코드는 요청 배열의 index와 사유로 보고)
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class ImportResult {
+        private int total;
+        private int imported;
+        private List<ImportFailure> failures = new ArrayList<>();
+
+        public void fail(int index, String reason) {
+            failures.add(new ImportFailure(index, reason));
+        }
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class ImportFailure {
+        private int index;
+        private String reason;
+    }
+
+    // 자동완성 색인용 집계 (음식 이름별 사용 횟수, 100g 당 영양 성분 합계 - 총 양이 있는 기록(samples)만 합산)
+    @AllArgsConstructor
+    @Getter
+    public static class FoodNameStats {
+        private String foodName;
+        private Long count;
+        private Long samples;
+        private Double caloriesPer100gSum;
+        private Double carbohydratePer100gSum;
+        private Double proteinPer100gSum;
+        private Double fatPer100gSum;
+        private Double sodiumPer100gSum;
+        private Double fiberPer100gSum;
+    }
+
+    // 음식 이름 자동완성 결과 (100g 당 평균 영양 성분, 총 양이 기록된 적 없으면 null)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Builder
+    public static class FoodSuggestion {
+        private String foodName;
+        private int count;
+        private Float caloriesPer100g;
+        private Float carbohydratePer100g;
+        private Float proteinPer100g;
+        private Float fatPer100g;
+        private Float sodiumPer100g;
+        private Float fiberPer100g;
+    }
+}
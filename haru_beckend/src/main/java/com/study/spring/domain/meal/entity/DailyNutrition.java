@@ -0,0 +1,45 @@
+package com.study.spring.domain.meal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+
+// 회원별 일일 영양 합계 (식사 생성/수정/삭제 시 MealService에서 함께 갱신)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "daily_nutrition",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_nutrition_member_date",
+                columnNames = {"member_id", "nutrition_date"}))
+@Getter
+@NoArgsConstructor
+public class DailyNutrition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "nutrition_date", nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private Integer calories;
+    @Column(nullable = false)
+    private Double carbohydrate;
+    @Column(nullable = false)
+    private Double protein;
+    @Column(nullable = false)
+    private Double fat;
+    @Column(nullable = false)
+    private Double sodium;
+    @Column(nullable = false)
+    private Double fiber;
+
+    @Column(name = "meal_count", nullable = false)
+    private Integer mealCount;
+}
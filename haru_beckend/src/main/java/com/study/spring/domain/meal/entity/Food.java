@@ -10,7 +10,9 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "foods")
+@Table(name = "foods", indexes = {
+        @Index(name = "idx_foods_meal", columnList = "meals_id, id")
+})
 @Getter
 @NoArgsConstructor
 public class Food {
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,7 +15,17 @@ import java.util.List;
 @AllArgsConstructor
 @Builder(toBuilder = true)
 @Entity
-@Table(name = "meals")
+// 변경된 컬럼만 UPDATE (PATCH로 메모/이미지만 바꿔도 전체 컬럼을 다시 쓰지 않도록)
+@DynamicUpdate
+// 인덱스는 db/migration의 Flyway 스크립트로 생성 (여기 선언과 동일하게 유지)
+@Table(name = "meals", indexes = {
+        // 회원별 + 식사타입별 조회 (modifiedAt DESC, id DESC 정렬까지 인덱스로 처리)
+        @Index(name = "idx_meals_member_type_modified", columnList = "member_id, meal_type, modified_at, id"),
+        // 회원별 타임라인 / 날짜 / 기간 조회
+        @Index(name = "idx_meals_member_modified", columnList = "member_id, modified_at, id"),
+        // 전체 회원 날짜별 조회
+        @Index(name = "idx_meals_modified", columnList = "modified_at, id")
+})
 @Getter
 @NoArgsConstructor
 public class Meal {
@@ -40,7 +52,9 @@ public class Meal {
     @Column(name = "record_weight")
     private Double recordWeight;
 
+    // 목록 조회 시 식사별 foods 쿼리(N+1) 대신 IN 절로 묶어서 로딩
     @OneToMany(mappedBy = "meal", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<Food> foods = new ArrayList<>();
 
@@ -49,6 +63,30 @@ public class Meal {
     private LocalDateTime modifiedAt;
     
 
+    public void updateMealType(MealType mealType) {
+        this.mealType = mealType;
+    }
+
+    public void updateImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public void updateMemo(String memo) {
+        this.memo = memo;
+    }
+
+    public void updateModifiedAt(LocalDateTime modifiedAt) {
+        this.modifiedAt = modifiedAt;
+    }
+
+    public void updateTotalCalories(Integer totalCalories) {
+        this.totalCalories = totalCalories;
+    }
+
+    public void updateRecordWeight(Double recordWeight) {
+        this.recordWeight = recordWeight;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,20 @@
+package com.study.spring.domain.meal.exception;
+
+import lombok.Getter;
+
+/**
+ * 파이썬 분석 서버를 지금 사용할 수 없음 (컨트롤러에서 503 + Retry-After 로 응답).
+ * reason: CIRCUIT_OPEN(서버 장애로 서킷 열림) / BULKHEAD_FULL(동시 호출 수 초과) / QUEUE_FULL(분석 대기열 가득 참)
+ */
+@Getter
+public class AnalysisUnavailableException extends RuntimeException {
+
+    private final String reason;
+    private final long retryAfterSeconds;
+
+    public AnalysisUnavailableException(String reason, long retryAfterSeconds, Throwable cause) {
+        super("음식 분석 서버를 일시적으로 사용할 수 없습니다", cause);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
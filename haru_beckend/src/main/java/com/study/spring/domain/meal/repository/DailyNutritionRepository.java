@@ -0,0 +1,60 @@
+package com.study.spring.domain.meal.repository;
+
+import com.study.spring.domain.meal.entity.DailyNutrition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyNutritionRepository extends JpaRepository<DailyNutrition, Long> {
+
+    // (member_id, nutrition_date) 유니크 키 기준 범위 조회
+    List<DailyNutrition> findByMemberIdAndDateBetweenOrderByDateAsc(Long memberId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM DailyNutrition d WHERE d.memberId = :memberId AND d.date >= :from AND d.date <= :to")
+    void deleteByMemberIdAndDateBetween(@Param("memberId") Long memberId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 행이 없으면 생성, 있으면 값을 더함 (동시 요청에도 원자적으로 반영되도록 MySQL upsert 사용)
+    @Modifying
+    @Query(value = "INSERT INTO daily_nutrition (member_id, nutrition_date, calories, carbohydrate, protein, fat, sodium, fiber, meal_count) " +
+            "VALUES (:memberId, :date, :calories, :carbohydrate, :protein, :fat, :sodium, :fiber, :mealCount) " +
+            "ON DUPLICATE KEY UPDATE calories = calories + VALUES(calories), " +
+            "carbohydrate = carbohydrate + VALUES(carbohydrate), protein = protein + VALUES(protein), " +
+            "fat = fat + VALUES(fat), sodium = sodium + VALUES(sodium), fiber = fiber + VALUES(fiber), " +
+            "meal_count = meal_count + VALUES(meal_count)",
+            nativeQuery = true)
+    void accumulate(@Param("memberId") Long memberId,
+                    @Param("date") LocalDate date,
+                    @Param("calories") int calories,
+                    @Param("carbohydrate") double carbohydrate,
+                    @Param("protein") double protein,
+                    @Param("fat") double fat,
+                    @Param("sodium") double sodium,
+                    @Param("fiber") double fiber,
+                    @Param("mealCount") int mealCount);
+
+    // 식사 삭제/수정 시 해당 날짜 합계에서 뺌 - 행이 없으면 아무것도 하지 않음 (음수 행을 만들지 않도록 INSERT 하지 않음)
+    @Modifying
+    @Query(value = "UPDATE daily_nutrition SET calories = calories - :calories, " +
+            "carbohydrate = carbohydrate - :carbohydrate, protein = protein - :protein, fat = fat - :fat, " +
+            "sodium = sodium - :sodium, fiber = fiber - :fiber, meal_count = meal_count - :mealCount " +
+            "WHERE member_id = :memberId AND nutrition_date = :date",
+            nativeQuery = true)
+    int subtract(@Param("memberId") Long memberId,
+                 @Param("date") LocalDate date,
+                 @Param("calories") int calories,
+                 @Param("carbohydrate") double carbohydrate,
+                 @Param("protein") double protein,
+                 @Param("fat") double fat,
+                 @Param("sodium") double sodium,
+                 @Param("fiber") double fiber,
+                 @Param("mealCount") int mealCount);
+
+    // 남은 식사가 없는 날은 행 삭제 (조회 시 기록이 없는 날로 보이도록)
+    @Modifying
+    @Query("DELETE FROM DailyNutrition d WHERE d.memberId = :memberId AND d.date = :date AND d.mealCount <= 0")
+    void deleteIfEmpty(@Param("memberId") Long memberId, @Param("date") LocalDate date);
+}
@@ -0,0 +1,107 @@
+package com.study.spring.domain.meal.repository;
+
+import com.study.spring.domain.meal.dto.MealDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * foods 배치 INSERT.
+ * Food는 IDENTITY 전략이라 Hibernate가 INSERT를 JDBC 배치로 묶지 못하므로
+ * 식사 등록/대량 import 모두 여기서 한 번에 INSERT 한다 (rewriteBatchedStatements=true 필요).
+ * 현재 트랜잭션의 커넥션을 그대로 사용하므로 같은 트랜잭션에서 먼저 저장한 meals 행을 참조할 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FoodJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_FOOD =
+            "INSERT INTO foods (meals_id, food_name, calories, carbohydrate, protein, fat, sodium, fiber, total_amount, quantity, food_category) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 식사 1건의 음식 목록 저장 - 생성된 food id를 입력 순서대로 반환
+    public List<Long> insertAll(Long mealId, List<MealDto.FoodRequest> foods) {
+        if (foods == null || foods.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return insertAll(new long[]{mealId}, List.of(foods), foods.size());
+    }
+
+    // mealIds[i] 식사에 foodsByMeal[i] 음식들을 batchSize 단위로 INSERT
+    public List<Long> insertAll(long[] mealIds, List<List<MealDto.FoodRequest>> foodsByMeal, int batchSize) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> ids = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_FOOD, Statement.RETURN_GENERATED_KEYS)) {
+                int pending = 0;
+                for (int i = 0; i < mealIds.length; i++) {
+                    List<MealDto.FoodRequest> foods = foodsByMeal.get(i);
+                    if (foods == null) {
+                        continue;
+                    }
+                    for (MealDto.FoodRequest food : foods) {
+                        bind(ps, mealIds[i], food);
+                        ps.addBatch();
+
+                        if (++pending >= batchSize) {
+                            execute(ps, ids);
+                            pending = 0;
+                        }
+                    }
+                }
+                if (pending > 0) {
+                    execute(ps, ids);
+                }
+            }
+            return ids;
+        });
+    }
+
+    private static void execute(PreparedStatement ps, List<Long> ids) throws SQLException {
+        ps.executeBatch();
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, long mealId, MealDto.FoodRequest food) throws SQLException {
+        ps.setLong(1, mealId);
+        ps.setString(2, food.getFoodName());
+        setInteger(ps, 3, food.getCalories());
+        setFloat(ps, 4, food.getCarbohydrate());
+        setFloat(ps, 5, food.getProtein());
+        setFloat(ps, 6, food.getFat());
+        setFloat(ps, 7, food.getSodium());
+        setFloat(ps, 8, food.getFiber());
+        ps.setInt(9, food.getTotalAmount() != null ? food.getTotalAmount() : 100); // 기본값 100g
+        ps.setInt(10, food.getQuantity() != null ? food.getQuantity() : 1); // 기본값 1개
+        ps.setString(11, food.getFoodCategory());
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setFloat(PreparedStatement ps, int index, Float value) throws SQLException {
+        if (value != null) {
+            ps.setFloat(index, value);
+        } else {
+            ps.setNull(index, Types.FLOAT);
+        }
+    }
+}
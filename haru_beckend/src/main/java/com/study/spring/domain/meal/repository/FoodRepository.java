@@ -1,10 +1,33 @@
 package com.study.spring.domain.meal.repository;
 
+import com.study.spring.domain.meal.dto.MealDto;
 import com.study.spring.domain.meal.entity.Food;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 public interface FoodRepository extends JpaRepository<Food, Long> {
     List<Food> findByMealId(Long mealId);
     void deleteAllByMealId(Long mealId);
+
+    // 목록 조회용 projection (여러 식사의 음식을 한 번에)
+    @Query("SELECT new com.study.spring.domain.meal.dto.MealDto$FoodRow(" +
+            "f.meal.id, f.id, f.foodName, f.calories, f.carbohydrate, f.protein, f.fat, f.sodium, f.fiber, " +
+            "f.foodCategory, f.totalAmount, f.quantity) " +
+            "FROM Food f WHERE f.meal.id IN :mealIds ORDER BY f.id")
+    List<MealDto.FoodRow> findRowsByMealIdIn(@Param("mealIds") Collection<Long> mealIds);
+
+    // 자동완성 색인 생성용 (시작 시 1회, 음식 이름별 집계)
+    @Query("SELECT new com.study.spring.domain.meal.dto.MealDto$FoodNameStats(f.foodName, COUNT(f), " +
+            "SUM(CASE WHEN f.totalAmount > 0 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN f.totalAmount > 0 THEN COALESCE(f.calories, 0) * 100.0 / f.totalAmount ELSE 0.0 END), " +
+            "SUM(CASE WHEN f.totalAmount > 0 THEN COALESCE(f.carbohydrate, 0) * 100.0 / f.totalAmount ELSE 0.0 END), " +
+            "SUM(CASE WHEN f.totalAmount > 0 THEN COALESCE(f.protein, 0) * 100.0 / f.totalAmount ELSE 0.0 END), " +
+            "SUM(CASE WHEN f.totalAmount > 0 THEN COALESCE(f.fat, 0) * 100.0 / f.totalAmount ELSE 0.0 END), " +
+            "SUM(CASE WHEN f.totalAmount > 0 THEN COALESCE(f.sodium, 0) * 100.0 / f.totalAmount ELSE 0.0 END), " +
+            "SUM(CASE WHEN f.totalAmount > 0 THEN COALESCE(f.fiber, 0) * 100.0 / f.totalAmount ELSE 0.0 END)) " +
+            "FROM Food f GROUP BY f.foodName")
+    List<MealDto.FoodNameStats> findFoodNameStats();
 } 
\ No newline at end of file
@@ -1,26 +1,81 @@
 package com.study.spring.domain.meal.repository;
 
+import com.study.spring.domain.common.dto.ResourceVersion;
+import com.study.spring.domain.meal.dto.MealDto;
 import com.study.spring.domain.meal.entity.Meal;
+import com.study.spring.domain.meal.entity.MealType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.time.LocalDateTime;
 
+// 목록 API는 아래 projection 쿼리(MealRow + FoodRepository.findRowsByMealIdIn)로 응답하고,
+// 엔티티가 필요한 곳(일일 영양 합계 재계산)만 foods를 fetch join(EntityGraph)으로 한 번에 로딩한다.
 public interface MealRepository extends JpaRepository<Meal, Long> {
-    List<Meal> findByMemberIdOrderByModifiedAtDesc(Long memberId);
-    List<Meal> findByUpdatedAtBetween(LocalDateTime start, LocalDateTime end);
-    List<Meal> findAllByOrderByModifiedAtDesc();
-    
-    @Query("SELECT m FROM Meal m ORDER BY m.modifiedAt DESC, m.id DESC")
-    List<Meal> findAllOrderByModifiedAtDesc();
-    
-    @Query("SELECT m FROM Meal m WHERE m.member.id = :memberId ORDER BY CASE WHEN m.modifiedAt IS NULL THEN 0 ELSE 1 END DESC, m.modifiedAt DESC, m.id DESC")
-    List<Meal> findByMemberIdOrderByModifiedAtDescQuery(@Param("memberId") Long memberId);
-
-    @Query("SELECT m FROM Meal m WHERE m.modifiedAt >= :start AND m.modifiedAt < :end ORDER BY m.modifiedAt DESC, m.id DESC")
-    List<Meal> findByModifiedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-
+    @EntityGraph(attributePaths = "foods")
     @Query("SELECT m FROM Meal m WHERE m.member.id = :memberId AND m.modifiedAt >= :start AND m.modifiedAt < :end ORDER BY m.modifiedAt DESC, m.id DESC")
     List<Meal> findByMemberIdAndModifiedAtBetween(@Param("memberId") Long memberId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-} 
\ No newline at end of file
+
+    // 조건부 GET용 버전 (COUNT + MAX(updatedAt)) - 엔티티를 로딩하지 않는 집계 쿼리 1번
+    String MEAL_VERSION = "SELECT new com.study.spring.domain.common.dto.ResourceVersion(COUNT(m), MAX(m.updatedAt)) FROM Meal m ";
+
+    @Query(MEAL_VERSION + "WHERE m.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    @Query(MEAL_VERSION)
+    ResourceVersion findVersion();
+
+    @Query(MEAL_VERSION + "WHERE m.member.id = :memberId")
+    ResourceVersion findVersionByMemberId(@Param("memberId") Long memberId);
+
+    @Query(MEAL_VERSION + "WHERE m.member.id = :memberId AND m.mealType = :mealType")
+    ResourceVersion findVersionByMemberIdAndMealType(@Param("memberId") Long memberId, @Param("mealType") MealType mealType);
+
+    @Query(MEAL_VERSION + "WHERE m.modifiedAt >= :start AND m.modifiedAt < :end")
+    ResourceVersion findVersionByModifiedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query(MEAL_VERSION + "WHERE m.member.id = :memberId AND m.modifiedAt >= :start AND m.modifiedAt < :end")
+    ResourceVersion findVersionByMemberIdAndModifiedAtBetween(@Param("memberId") Long memberId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // ---- 목록 조회용 projection 쿼리 (MealDto.MealRow, foods는 FoodRepository.findRowsByMealIdIn) ----
+
+    String MEAL_ROW = "SELECT new com.study.spring.domain.meal.dto.MealDto$MealRow(" +
+            "m.id, m.member.id, m.mealType, m.imageUrl, m.memo, m.createdAt, m.updatedAt, m.modifiedAt, m.recordWeight) " +
+            "FROM Meal m ";
+
+    @Query(MEAL_ROW + "ORDER BY m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findAllRows();
+
+    @Query(MEAL_ROW + "WHERE m.member.id = :memberId ORDER BY CASE WHEN m.modifiedAt IS NULL THEN 0 ELSE 1 END DESC, m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findRowsByMemberId(@Param("memberId") Long memberId);
+
+    @Query(MEAL_ROW + "WHERE m.member.id = :memberId ORDER BY CASE WHEN m.modifiedAt IS NULL THEN 0 ELSE 1 END DESC, m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findRowsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query(MEAL_ROW + "WHERE m.modifiedAt >= :start AND m.modifiedAt < :end ORDER BY m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findRowsByModifiedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query(MEAL_ROW + "WHERE m.member.id = :memberId AND m.modifiedAt >= :start AND m.modifiedAt < :end ORDER BY m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findRowsByMemberIdAndModifiedAtBetween(@Param("memberId") Long memberId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 타임라인 첫 페이지 (Pageable로 LIMIT 적용, modified_at 이 NULL 인 예전 기록은 V5 마이그레이션에서 채움)
+    @Query(MEAL_ROW + "WHERE m.member.id = :memberId ORDER BY m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findTimelineFirstPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 타임라인 다음 페이지: (modifiedAt, id) 커서 이후만 seek
+    @Query(MEAL_ROW + "WHERE m.member.id = :memberId AND (m.modifiedAt < :modifiedAt OR (m.modifiedAt = :modifiedAt AND m.id < :id)) ORDER BY m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findTimelineAfter(@Param("memberId") Long memberId, @Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    // 회원별 + 식사타입별 조회 (idx_meals_member_type_modified 사용)
+    @Query(MEAL_ROW + "WHERE m.member.id = :memberId AND m.mealType = :mealType ORDER BY m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findRowsByMemberIdAndMealType(@Param("memberId") Long memberId, @Param("mealType") MealType mealType);
+
+    @Query(MEAL_ROW + "WHERE m.member.id = :memberId AND m.mealType = :mealType ORDER BY m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findTimelineFirstPageByMealType(@Param("memberId") Long memberId, @Param("mealType") MealType mealType, Pageable pageable);
+
+    @Query(MEAL_ROW + "WHERE m.member.id = :memberId AND m.mealType = :mealType AND (m.modifiedAt < :modifiedAt OR (m.modifiedAt = :modifiedAt AND m.id < :id)) ORDER BY m.modifiedAt DESC, m.id DESC")
+    List<MealDto.MealRow> findTimelineAfterByMealType(@Param("memberId") Long memberId, @Param("mealType") MealType mealType, @Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+}
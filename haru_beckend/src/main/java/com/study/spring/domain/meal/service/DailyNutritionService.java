@@ -0,0 +1,186 @@
+package com.study.spring.domain.meal.service;
+
+import com.study.spring.domain.common.util.DateRanges;
+import com.study.spring.domain.meal.dto.MealDto;
+import com.study.spring.domain.meal.entity.DailyNutrition;
+import com.study.spring.domain.meal.entity.Food;
+import com.study.spring.domain.meal.entity.Meal;
+import com.study.spring.domain.meal.repository.DailyNutritionRepository;
+import com.study.spring.domain.meal.repository.MealRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DailyNutritionService {
+    private final DailyNutritionRepository dailyNutritionRepository;
+    private final MealRepository mealRepository;
+
+    // 식사 1건을 해당 날짜 합계에 더함 (호출한 트랜잭션 안에서 실행)
+    @Transactional
+    public void addMeal(Meal meal) {
+        accumulate(meal, meal.getFoods());
+    }
+
+    // 음식 목록이 meal.getFoods()에 없는 경우 (식사 등록 시 foods를 JDBC로 저장)
+    @Transactional
+    public void addMeal(Meal meal, List<Food> foods) {
+        accumulate(meal, foods);
+    }
+
+    // 식사 1건을 해당 날짜 합계에서 뺌 (합계 행은 UPDATE 만 - 없던 날짜에 음수 행을 만들지 않음)
+    @Transactional
+    public void removeMeal(Meal meal) {
+        if (meal.getModifiedAt() == null) {
+            return;
+        }
+        Long memberId = meal.getMember().getId();
+        LocalDate date = meal.getModifiedAt().toLocalDate();
+        Totals totals = Totals.of(meal.getFoods());
+        int updated = dailyNutritionRepository.subtract(memberId, date, totals.calories, totals.carbohydrate,
+                totals.protein, totals.fat, totals.sodium, totals.fiber, totals.mealCount);
+        if (updated > 0) {
+            dailyNutritionRepository.deleteIfEmpty(memberId, date);
+        }
+    }
+
+    // 대량 import된 식사들을 날짜별로 묶어서 한 번씩 반영
+    @Transactional
+    public void addImportedMeals(Long memberId, List<MealDto.Request> meals, LocalDateTime importedAt) {
+        Map<LocalDate, Totals> byDate = new TreeMap<>();
+        for (MealDto.Request meal : meals) {
+            LocalDate date = meal.getModifiedAt() != null ? meal.getModifiedAt().toLocalDate() : importedAt.toLocalDate();
+            byDate.computeIfAbsent(date, d -> new Totals())
+                    .add(Totals.ofRequests(meal.getFoods()));
+        }
+        byDate.forEach((date, totals) -> dailyNutritionRepository.accumulate(
+                memberId, date, totals.calories, totals.carbohydrate, totals.protein,
+                totals.fat, totals.sodium, totals.fiber, totals.mealCount));
+    }
+
+    private void accumulate(Meal meal, List<Food> foods) {
+        if (meal.getModifiedAt() == null) {
+            return;
+        }
+        Totals totals = Totals.of(foods);
+        dailyNutritionRepository.accumulate(
+                meal.getMember().getId(),
+                meal.getModifiedAt().toLocalDate(),
+                totals.calories,
+                totals.carbohydrate,
+                totals.protein,
+                totals.fat,
+                totals.sodium,
+                totals.fiber,
+                totals.mealCount);
+    }
+
+    // 기간별 일일 합계 조회 (기록이 없는 날은 포함하지 않음)
+    public List<MealDto.DailyNutritionResponse> getDailyNutrition(Long memberId, LocalDate from, LocalDate to) {
+        DateRanges.validate(from, to);
+        return dailyNutritionRepository.findByMemberIdAndDateBetweenOrderByDateAsc(memberId, from, to)
+                .stream()
+                .map(MealDto.DailyNutritionResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    // 기존 식사 기록으로 기간 합계를 다시 계산 (수동 보정용 - 롤업 도입 이전 데이터는 V6 마이그레이션에서 한 번 채움)
+    @Transactional
+    public List<MealDto.DailyNutritionResponse> rebuild(Long memberId, LocalDate from, LocalDate to) {
+        DateRanges.validate(from, to);
+        dailyNutritionRepository.deleteByMemberIdAndDateBetween(memberId, from, to);
+
+        List<Meal> meals = mealRepository.findByMemberIdAndModifiedAtBetween(
+                memberId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        Map<LocalDate, Totals> byDate = new TreeMap<>();
+        for (Meal meal : meals) {
+            byDate.computeIfAbsent(meal.getModifiedAt().toLocalDate(), d -> new Totals())
+                    .add(Totals.of(meal.getFoods()));
+        }
+
+        List<DailyNutrition> rows = byDate.entrySet().stream()
+                .map(entry -> entry.getValue().toEntity(memberId, entry.getKey()))
+                .collect(Collectors.toList());
+
+        return dailyNutritionRepository.saveAll(rows).stream()
+                .map(MealDto.DailyNutritionResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    private static class Totals {
+        int calories;
+        double carbohydrate;
+        double protein;
+        double fat;
+        double sodium;
+        double fiber;
+        int mealCount;
+
+        static Totals of(List<Food> foods) {
+            Totals totals = new Totals();
+            totals.mealCount = 1;
+            if (foods == null) {
+                return totals;
+            }
+            for (Food food : foods) {
+                totals.calories += food.getCalories() != null ? food.getCalories() : 0;
+                totals.carbohydrate += food.getCarbohydrate() != null ? food.getCarbohydrate() : 0;
+                totals.protein += food.getProtein() != null ? food.getProtein() : 0;
+                totals.fat += food.getFat() != null ? food.getFat() : 0;
+                totals.sodium += food.getSodium() != null ? food.getSodium() : 0;
+                totals.fiber += food.getFiber() != null ? food.getFiber() : 0;
+            }
+            return totals;
+        }
+
+        static Totals ofRequests(List<MealDto.FoodRequest> foods) {
+            Totals totals = new Totals();
+            totals.mealCount = 1;
+            if (foods == null) {
+                return totals;
+            }
+            for (MealDto.FoodRequest food : foods) {
+                totals.calories += food.getCalories() != null ? food.getCalories() : 0;
+                totals.carbohydrate += food.getCarbohydrate() != null ? food.getCarbohydrate() : 0;
+                totals.protein += food.getProtein() != null ? food.getProtein() : 0;
+                totals.fat += food.getFat() != null ? food.getFat() : 0;
+                totals.sodium += food.getSodium() != null ? food.getSodium() : 0;
+                totals.fiber += food.getFiber() != null ? food.getFiber() : 0;
+            }
+            return totals;
+        }
+
+        void add(Totals other) {
+            calories += other.calories;
+            carbohydrate += other.carbohydrate;
+            protein += other.protein;
+            fat += other.fat;
+            sodium += other.sodium;
+            fiber += other.fiber;
+            mealCount += other.mealCount;
+        }
+
+        DailyNutrition toEntity(Long memberId, LocalDate date) {
+            return DailyNutrition.builder()
+                    .memberId(memberId)
+                    .date(date)
+                    .calories(calories)
+                    .carbohydrate(carbohydrate)
+                    .protein(protein)
+                    .fat(fat)
+                    .sodium(sodium)
+                    .fiber(fiber)
+                    .mealCount(mealCount)
+                    .build();
+        }
+    }
+}
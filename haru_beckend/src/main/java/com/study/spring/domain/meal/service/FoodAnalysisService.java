@@ -0,0 +1,491 @@
+package com.study.spring.domain.meal.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.spring.domain.common.util.Bulkhead;
+import com.study.spring.domain.common.util.CircuitBreaker;
+import com.study.spring.domain.common.util.LruTtlCache;
+import com.study.spring.domain.common.util.SingleFlight;
+import com.study.spring.domain.meal.exception.AnalysisUnavailableException;
+import com.study.spring.domain.meal.util.FoodNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 파이썬 음식 분석 서버 호출.
+ * 텍스트 분석은 같은 음식 이름("김치찌개", "공깃밥" 등)이 반복해서 들어오므로
+ * 정규화한 음식 이름을 키로 결과를 캐시한다 (LRU + TTL).
+ * 로컬 영양 정보 참조 DB(NutritionReferenceService)에 있는 음식은 파이썬 서버를 호출하지 않고 바로 응답한다.
+ * 이미지 분석은 화면을 오갈 때 같은 사진이 다시 분석되므로 이미지 바이트의 SHA-256 을 키로
+ * 메모리에 캐시하고, food.analysis.image-cache.disk-dir 이 설정되면 디스크에도 JSON 으로 저장한다
+ * (서버 재시작 후에도 같은 사진은 비전 모델을 다시 호출하지 않음).
+ * 이미지는 힙에 올리지 않고 임시 파일로 받으면서 해시를 계산하고, 파이썬 서버에는 multipart 로 스트리밍 전송한다.
+ * 캐시에 없는 같은 키의 요청이 동시에 들어오면 (인기 음식, 중복 제출) 파이썬 서버 호출은 한 번만 하고 결과를 나눠 받는다.
+ * 컨트롤러는 *Async 메서드를 사용 - 분석은 전용 스레드 풀(food.analysis.executor.*)에서 실행되어
+ * 모델 응답을 기다리는 동안 Tomcat 스레드를 점유하지 않는다.
+ * 파이썬 서버 호출은 동시 호출 수 제한(bulkhead) + 서킷 브레이커를 거치며, 서버 장애/과부하/대기열 초과 시
+ * 기다리지 않고 AnalysisUnavailableException 으로 바로 실패한다.
+ */
+@Slf4j
+@Service
+public class FoodAnalysisService {
+
+    // food.analysis.base-url 기준 경로 (FoodAnalysisClientConfig)
+    private static final String TEXT_ANALYZE_URL = "/api/food/analyze/text";
+    private static final String IMAGE_ANALYZE_URL = "/api/food/analyze";
+
+    // 파이썬 서버 업로드 제한과 동일
+    private static final long MAX_IMAGE_BYTES = 10L * 1024 * 1024;
+    private static final int IMAGE_CONNECT_TIMEOUT_MS = 5000;
+    private static final int IMAGE_READ_TIMEOUT_MS = 10000;
+
+    private static final TypeReference<Map<String, Object>> RESULT_TYPE = new TypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final NutritionReferenceService nutritionReferenceService;
+    private final LruTtlCache<String, Map<String, Object>> textCache;
+    private final LruTtlCache<String, Map<String, Object>> imageCache;
+    private final SingleFlight<String, Map<String, Object>> textFlight;
+    private final SingleFlight<String, Map<String, Object>> imageFlight;
+
+    // 이미지 결과 디스크 캐시 (null 이면 사용 안 함)
+    private final Path imageCacheDir;
+    private final long imageCacheTtlMillis;
+    private final Counter diskHits;
+    private final Counter diskMisses;
+
+    // 분석 전용 스레드 풀 (executor.* 메트릭, name=food.analysis)
+    private final ThreadPoolExecutor analysisPool;
+    private final ExecutorService analysisExecutor;
+    // 파이썬 서버 호출 보호 (이미지 다운로드는 파이썬 서버가 아니므로 제외)
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    // 일괄 분석 1건이 동시에 사용하는 최대 스레드 수 (한 요청이 풀을 독점하지 않도록)
+    private final int batchConcurrency;
+
+    public FoodAnalysisService(@Qualifier("foodAnalysisRestTemplate") RestTemplate restTemplate,
+                               ObjectMapper objectMapper,
+                               NutritionReferenceService nutritionReferenceService,
+                               MeterRegistry meterRegistry,
+                               @Value("${food.analysis.text-cache.max-size:1000}") int textCacheSize,
+                               @Value("${food.analysis.text-cache.ttl-seconds:86400}") long textCacheTtlSeconds,
+                               @Value("${food.analysis.image-cache.max-size:500}") int imageCacheSize,
+                               @Value("${food.analysis.image-cache.ttl-seconds:604800}") long imageCacheTtlSeconds,
+                               @Value("${food.analysis.image-cache.disk-dir:}") String imageCacheDir,
+                               @Value("${food.analysis.executor.pool-size:16}") int poolSize,
+                               @Value("${food.analysis.executor.queue-capacity:100}") int queueCapacity,
+                               @Value("${food.analysis.batch.max-concurrency:4}") int batchConcurrency,
+                               @Value("${food.analysis.bulkhead.max-concurrent:10}") int bulkheadMaxConcurrent,
+                               @Value("${food.analysis.bulkhead.max-wait-ms:500}") long bulkheadMaxWaitMs,
+                               @Value("${food.analysis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${food.analysis.circuit-breaker.open-seconds:30}") long openSeconds) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.nutritionReferenceService = nutritionReferenceService;
+        this.textCache = new LruTtlCache<>("food.analysis.text", textCacheSize,
+                Duration.ofSeconds(textCacheTtlSeconds), meterRegistry);
+        this.imageCache = new LruTtlCache<>("food.analysis.image", imageCacheSize,
+                Duration.ofSeconds(imageCacheTtlSeconds), meterRegistry);
+        this.textFlight = new SingleFlight<>("food.analysis.text", meterRegistry);
+        this.imageFlight = new SingleFlight<>("food.analysis.image", meterRegistry);
+
+        this.imageCacheDir = imageCacheDir.isBlank() ? null : Paths.get(imageCacheDir);
+        this.imageCacheTtlMillis = imageCacheTtlSeconds * 1000;
+        this.diskHits = Counter.builder("cache.gets").tag("cache", "food.analysis.image.disk").tag("result", "hit")
+                .description("캐시 조회").register(meterRegistry);
+        this.diskMisses = Counter.builder("cache.gets").tag("cache", "food.analysis.image.disk").tag("result", "miss")
+                .description("캐시 조회").register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.analysisPool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "food-analysis-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.analysisPool.allowCoreThreadTimeOut(true);
+        this.analysisExecutor = ExecutorServiceMetrics.monitor(meterRegistry, analysisPool, "food.analysis");
+        this.batchConcurrency = Math.max(1, batchConcurrency);
+
+        this.bulkhead = new Bulkhead("food.analysis", bulkheadMaxConcurrent,
+                Duration.ofMillis(bulkheadMaxWaitMs), meterRegistry);
+        // 연결 실패/타임아웃(ResourceAccessException)과 5xx 만 장애로 집계
+        this.circuitBreaker = new CircuitBreaker("food.analysis", failureThreshold, Duration.ofSeconds(openSeconds),
+                e -> e instanceof ResourceAccessException || e instanceof HttpServerErrorException,
+                meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        analysisPool.shutdown();
+    }
+
+    // 음식 이름으로 영양 정보 분석 - 참조 DB나 캐시에 있으면 바로 완료된 future (파이썬 서버 호출 없음),
+    // 없으면 분석 스레드 풀에서 실행 (풀이 가득 차면 AnalysisUnavailableException)
+    public CompletableFuture<Map<String, Object>> analyzeTextAsync(String foodName) {
+        String key = FoodNames.normalize(foodName);
+
+        Map<String, Object> local = nutritionReferenceService.analyze(key);
+        if (local != null) {
+            return CompletableFuture.completedFuture(local);
+        }
+        Map<String, Object> cached = textCache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return submit(() -> loadText(key, foodName));
+    }
+
+    // 이미지는 다운로드해야 캐시 키(해시)를 알 수 있으므로 다운로드부터 분석 스레드 풀에서 실행
+    public CompletableFuture<Map<String, Object>> analyzeImageAsync(String imageUrl) {
+        return submit(() -> analyzeImage(imageUrl));
+    }
+
+    private CompletableFuture<Map<String, Object>> submit(Supplier<Map<String, Object>> analysis) {
+        try {
+            return CompletableFuture.supplyAsync(analysis, analysisExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new AnalysisUnavailableException("QUEUE_FULL", 5, e);
+        }
+    }
+
+    // 파이썬 서버 호출: 동시 호출 수 제한 -> 서킷 브레이커 순서
+    // (bulkhead 에서 거절된 호출이 half-open 시험 호출 자리를 차지하지 않도록 bulkhead 가 바깥쪽)
+    private <T> T callUpstream(Supplier<T> call) {
+        try {
+            return bulkhead.execute(() -> circuitBreaker.execute(call));
+        } catch (Bulkhead.BulkheadFullException e) {
+            throw new AnalysisUnavailableException("BULKHEAD_FULL", 1, e);
+        } catch (CircuitBreaker.CallNotPermittedException e) {
+            throw new AnalysisUnavailableException("CIRCUIT_OPEN",
+                    Math.max(1, TimeUnit.MILLISECONDS.toSeconds(e.getRetryAfterMillis() + 999)), e);
+        }
+    }
+
+    /**
+     * 여러 음식(이름/사진)을 한 번에 분석. 최대 food.analysis.batch.max-concurrency 개씩 병렬로 실행하므로
+     * 전체 시간은 합이 아니라 대략 가장 느린 항목 수준이 된다.
+     * 항목별로 성공/실패를 담아 요청 순서대로(이름 다음 사진) 반환하며, 일부가 실패해도 나머지 결과는 그대로 반환.
+     */
+    public CompletableFuture<List<Map<String, Object>>> analyzeBatchAsync(List<String> foodNames, List<String> imageUrls) {
+        List<BatchItem> items = new ArrayList<>();
+        foodNames.forEach(name -> items.add(new BatchItem("text", name)));
+        imageUrls.forEach(url -> items.add(new BatchItem("image", url)));
+
+        // 항목을 batchConcurrency 개의 줄로 나눠 각 줄은 순서대로 실행 (i, i+k, i+2k ...)
+        List<CompletableFuture<Map<String, Object>>> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(null);
+        }
+        for (int lane = 0; lane < Math.min(batchConcurrency, items.size()); lane++) {
+            CompletableFuture<Map<String, Object>> previous = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < items.size(); i += batchConcurrency) {
+                int index = i;
+                previous = previous.thenCompose(ignored -> analyzeBatchItem(index, items.get(index)));
+                results.set(index, previous);
+            }
+        }
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    // 항목 결과는 항상 정상 완료 (실패는 success=false 와 error 로 표시)
+    private CompletableFuture<Map<String, Object>> analyzeBatchItem(int index, BatchItem item) {
+        CompletableFuture<Map<String, Object>> analysis;
+        try {
+            analysis = "text".equals(item.type) ? analyzeTextAsync(item.input) : analyzeImageAsync(item.input);
+        } catch (AnalysisUnavailableException e) {
+            analysis = CompletableFuture.failedFuture(e);
+        }
+        return analysis.handle((result, e) -> {
+            Map<String, Object> itemResult = new LinkedHashMap<>();
+            itemResult.put("index", index);
+            itemResult.put("type", item.type);
+            itemResult.put("input", item.input);
+            if (e == null) {
+                itemResult.put("success", true);
+                itemResult.put("result", result);
+            } else {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                itemResult.put("success", false);
+                itemResult.put("error", String.valueOf(cause.getMessage()));
+                if (cause instanceof AnalysisUnavailableException unavailable) {
+                    itemResult.put("code", "ANALYSIS_UNAVAILABLE");
+                    itemResult.put("reason", unavailable.getReason());
+                }
+            }
+            return itemResult;
+        });
+    }
+
+    // 캐시 / 중복 호출 묶음은 정규화한 key 기준, 파이썬 서버에는 사용자가 입력한 이름 그대로 전달
+    // (같은 key 로 동시에 들어온 요청은 먼저 온 요청의 입력으로 한 번만 호출)
+    private Map<String, Object> loadText(String key, String foodName) {
+        return textFlight.execute(key, () -> {
+            // 앞서 진행 중이던 호출이 방금 끝나 캐시에 들어갔을 수 있음
+            Map<String, Object> loaded = textCache.peek(key);
+            if (loaded != null) {
+                return loaded;
+            }
+            Map<String, Object> result = callUpstream(() -> postJson(TEXT_ANALYZE_URL, Map.of("food_name", foodName)));
+            if (isCacheable(result)) {
+                textCache.put(key, result);
+            }
+            return result;
+        });
+    }
+
+    // 이미지 URL의 사진으로 음식 분석 (같은 사진이면 URL이 달라도 캐시된 결과 사용)
+    public Map<String, Object> analyzeImage(String imageUrl) {
+        try (DownloadedImage image = downloadImage(imageUrl)) {
+            String key = image.sha256;
+
+            Map<String, Object> cached = imageCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+
+            return imageFlight.execute(key, () -> {
+                Map<String, Object> loaded = imageCache.peek(key);
+                if (loaded == null) {
+                    loaded = readDiskCache(key);
+                }
+                if (loaded != null) {
+                    imageCache.put(key, loaded);
+                    return loaded;
+                }
+
+                Map<String, Object> result = callUpstream(() -> postImage(image));
+                if (isCacheable(result)) {
+                    imageCache.put(key, result);
+                    writeDiskCache(key, result);
+                }
+                return result;
+            });
+        }
+    }
+
+    // success=true 인 응답만 캐시 (호출 오류는 예외로 전달됨, 파이썬 서버는 분석 실패도 HTTP 200 + success=false 로 응답)
+    private static boolean isCacheable(Map<String, Object> result) {
+        return result != null && Boolean.TRUE.equals(result.get("success"));
+    }
+
+    // 이미지를 임시 파일로 받으면서 SHA-256 계산 (메모리에는 버퍼 크기만큼만 올라감)
+    private DownloadedImage downloadImage(String imageUrl) {
+        Path file = null;
+        try {
+            URLConnection connection = new URL(imageUrl).openConnection();
+            connection.setConnectTimeout(IMAGE_CONNECT_TIMEOUT_MS);
+            connection.setReadTimeout(IMAGE_READ_TIMEOUT_MS);
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            file = Files.createTempFile("food-image-", ".tmp");
+            try (InputStream in = new DigestInputStream(connection.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[8192];
+                long total = 0;
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                    if (total > MAX_IMAGE_BYTES) {
+                        throw new IllegalArgumentException("이미지 크기가 너무 큽니다 (최대 10MB)");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return new DownloadedImage(file, HexFormat.of().formatHex(digest.digest()),
+                    imageContentType(connection, imageUrl));
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            deleteQuietly(file);
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("이미지를 불러올 수 없습니다", e);
+        }
+    }
+
+    // 파이썬 서버는 image/* 타입만 받으므로 응답 헤더 -> URL 확장자 -> jpeg 순으로 결정
+    private static MediaType imageContentType(URLConnection connection, String imageUrl) {
+        for (String type : new String[]{connection.getContentType(), URLConnection.guessContentTypeFromName(imageUrl)}) {
+            if (type != null && type.startsWith("image/")) {
+                return MediaType.parseMediaType(type);
+            }
+        }
+        return MediaType.IMAGE_JPEG;
+    }
+
+    // 임시 파일을 그대로 multipart 본문으로 스트리밍 (base64 / byte[] 변환 없음)
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> postImage(DownloadedImage image) {
+        HttpHeaders partHeaders = new HttpHeaders();
+        partHeaders.setContentType(image.contentType);
+        partHeaders.setContentDisposition(ContentDisposition.formData()
+                .name("file")
+                .filename("image." + image.contentType.getSubtype())
+                .build());
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new HttpEntity<>(new FileSystemResource(image.file), partHeaders));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                IMAGE_ANALYZE_URL,
+                HttpMethod.POST,
+                new HttpEntity<>(body, headers),
+                Map.class
+        );
+        return response.getBody();
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 이미지 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    // <disk-dir>/ab/abcdef....json (한 디렉터리에 파일이 너무 많아지지 않도록 해시 앞 2자리로 나눔)
+    private Path diskCacheFile(String key) {
+        return imageCacheDir.resolve(key.substring(0, 2)).resolve(key + ".json");
+    }
+
+    private Map<String, Object> readDiskCache(String key) {
+        if (imageCacheDir == null) {
+            return null;
+        }
+        Path file = diskCacheFile(key);
+        try {
+            if (Files.isRegularFile(file)
+                    && Files.getLastModifiedTime(file).toMillis() + imageCacheTtlMillis >= System.currentTimeMillis()) {
+                Map<String, Object> result = objectMapper.readValue(file.toFile(), RESULT_TYPE);
+                diskHits.increment();
+                return result;
+            }
+        } catch (IOException e) {
+            // 깨진 파일은 무시하고 다시 분석 (다음 저장 때 덮어씀)
+            log.warn("이미지 분석 디스크 캐시 읽기 실패: {}", file, e);
+        }
+        diskMisses.increment();
+        return null;
+    }
+
+    private void writeDiskCache(String key, Map<String, Object> result) {
+        if (imageCacheDir == null) {
+            return;
+        }
+        Path file = diskCacheFile(key);
+        try {
+            Files.createDirectories(file.getParent());
+            // 임시 파일에 쓴 뒤 이동 - 다른 요청이 쓰다 만 파일을 읽지 않도록
+            Path tmp = Files.createTempFile(file.getParent(), key, ".tmp");
+            try {
+                objectMapper.writeValue(tmp.toFile(), result);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // 디스크 캐시는 보조 수단이므로 실패해도 분석 결과는 그대로 반환
+            log.warn("이미지 분석 디스크 캐시 저장 실패: {}", file, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> postJson(String url, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                url,
+                HttpMethod.POST,
+                new HttpEntity<>(body, headers),
+                Map.class
+        );
+        return response.getBody();
+    }
+
+    private static class BatchItem {
+        private final String type;
+        private final String input;
+
+        BatchItem(String type, String input) {
+            this.type = type;
+            this.input = input;
+        }
+    }
+
+    // 다운로드한 이미지 임시 파일 (분석이 끝나면 삭제)
+    private static class DownloadedImage implements AutoCloseable {
+        private final Path file;
+        private final String sha256;
+        private final MediaType contentType;
+
+        DownloadedImage(Path file, String sha256, MediaType contentType) {
+            this.file = file;
+            this.sha256 = sha256;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public void close() {
+            deleteQuietly(file);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.study.spring.domain.meal.service;
+
+import com.study.spring.domain.meal.dto.MealDto;
+import com.study.spring.domain.meal.entity.Food;
+import com.study.spring.domain.meal.repository.FoodRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 음식 이름 자동완성 (지금까지 기록된 음식 이름, 사용 횟수 순).
+ * 시작 시 foods 테이블 집계로 색인을 만들고, 이후 식사 기록이 추가되면(createMeal, import 커밋 후) 색인에 바로 반영한다.
+ * 기록 수정/삭제는 반영하지 않음 (사용 이력 기준, 재시작 시 다시 집계).
+ * 색인된 이름 수는 food.autocomplete.names 메트릭.
+ */
+@Slf4j
+@Service
+public class FoodAutocompleteService {
+
+    private final FoodRepository foodRepository;
+    private final FoodNameIndex index = new FoodNameIndex();
+
+    public FoodAutocompleteService(FoodRepository foodRepository, MeterRegistry meterRegistry) {
+        this.foodRepository = foodRepository;
+        Gauge.builder("food.autocomplete.names", index, FoodNameIndex::size)
+                .description("자동완성 색인의 음식 이름 수").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        index.load(foodRepository.findFoodNameStats());
+        log.info("음식 이름 자동완성 색인: {}개 ({}ms)", index.size(), System.currentTimeMillis() - start);
+    }
+
+    public List<MealDto.FoodSuggestion> suggest(String prefix, int limit) {
+        return index.suggest(prefix, limit);
+    }
+
+    // 트랜잭션이 커밋된 뒤에 반영 (롤백된 기록이 색인에 남지 않도록)
+    public void recordAfterCommit(List<Food> foods) {
+        afterCommit(() -> {
+            for (Food food : foods) {
+                record(food.getFoodName(), food.getTotalAmount(), food.getCalories(), food.getCarbohydrate(),
+                        food.getProtein(), food.getFat(), food.getSodium(), food.getFiber());
+            }
+        });
+    }
+
+    // import 경로 (MealImportService, 청크 트랜잭션 커밋 후) - 총 양이 없으면 저장 시와 같이 100g
+    public void recordImportedAfterCommit(List<MealDto.FoodRequest> foods) {
+        afterCommit(() -> {
+            for (MealDto.FoodRequest food : foods) {
+                record(food.getFoodName(), food.getTotalAmount() != null ? food.getTotalAmount() : 100,
+                        food.getCalories(), food.getCarbohydrate(), food.getProtein(), food.getFat(),
+                        food.getSodium(), food.getFiber());
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void record(String foodName, Integer totalAmount, Integer calories, Float carbohydrate,
+                        Float protein, Float fat, Float sodium, Float fiber) {
+        index.record(foodName, totalAmount, new double[]{
+                calories != null ? calories : 0,
+                carbohydrate != null ? carbohydrate : 0,
+                protein != null ? protein : 0,
+                fat != null ? fat : 0,
+                sodium != null ? sodium : 0,
+                fiber != null ? fiber : 0});
+    }
+}
@@ -0,0 +1,229 @@
+package com.study.spring.domain.meal.service;
+
+import com.study.spring.domain.meal.dto.MealDto;
+import com.study.spring.domain.meal.util.FoodNames;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 음식 이름 prefix 색인 (FoodAutocompleteService 내부용).
+ * 정규화한 이름(FoodNames.compact)을 정렬된 배열로 보관 - 같은 prefix 로 시작하는 이름은 배열에서 연속 구간이므로
+ * 이진 탐색 2번으로 구간을 찾고, 구간의 사용 횟수만 훑어 상위 limit 개를 고른다 (노드 객체 없는 평탄한 trie).
+ * 이름별 값은 기본형 배열에 저장해 이름 수십만 개에서도 힙 사용과 조회 시 할당을 최소화.
+ * 새 이름 추가 시에는 정렬 배열(keys, slots)만 밀고, 값 배열은 slot 번호로 뒤에 이어 붙인다.
+ */
+class FoodNameIndex {
+
+    // 칼로리, 탄수화물, 단백질, 지방, 나트륨, 식이섬유 (100g 당 합계)
+    static final int NUTRIENTS = 6;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 정렬 순서 (i 번째 이름)
+    private String[] keys = new String[0];   // 정규화 이름, 오름차순
+    private int[] slots = new int[0];        // 아래 값 배열의 위치
+
+    // slot 별 값 (추가 순서)
+    private String[] names = new String[0];  // 표시용 이름
+    private int[] counts = new int[0];
+    private int[] samples = new int[0];      // 총 양(g)이 있는 기록 수
+    private double[] sums = new double[0];   // slot * NUTRIENTS + 영양 성분
+    private int size;
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 교체 (시작 시 DB 집계로 생성) - 표기만 다른 이름(띄어쓰기/대소문자)은 합치고 가장 많이 쓰인 표기를 사용
+    void load(List<MealDto.FoodNameStats> rows) {
+        List<MealDto.FoodNameStats> sorted = new ArrayList<>(rows.size());
+        List<String> sortedKeys = new ArrayList<>(rows.size());
+        for (MealDto.FoodNameStats row : rows) {
+            String key = row.getFoodName() != null ? FoodNames.compact(row.getFoodName()) : "";
+            if (!key.isEmpty()) {
+                sorted.add(row);
+                sortedKeys.add(key);
+            }
+        }
+        Integer[] order = new Integer[sorted.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> sortedKeys.get(a).compareTo(sortedKeys.get(b)));
+
+        String[] newKeys = new String[order.length];
+        String[] newNames = new String[order.length];
+        int[] newCounts = new int[order.length];
+        int[] bestCounts = new int[order.length];
+        int[] newSamples = new int[order.length];
+        double[] newSums = new double[order.length * NUTRIENTS];
+        int n = -1;
+        for (Integer i : order) {
+            MealDto.FoodNameStats row = sorted.get(i);
+            String key = sortedKeys.get(i);
+            int count = row.getCount().intValue();
+            if (n < 0 || !newKeys[n].equals(key)) {
+                n++;
+                newKeys[n] = key;
+            }
+            if (count > bestCounts[n]) {
+                bestCounts[n] = count;
+                newNames[n] = row.getFoodName().trim();
+            }
+            newCounts[n] += count;
+            newSamples[n] += row.getSamples().intValue();
+            Double[] rowSums = {row.getCaloriesPer100gSum(), row.getCarbohydratePer100gSum(), row.getProteinPer100gSum(),
+                    row.getFatPer100gSum(), row.getSodiumPer100gSum(), row.getFiberPer100gSum()};
+            for (int k = 0; k < NUTRIENTS; k++) {
+                newSums[n * NUTRIENTS + k] += rowSums[k] != null ? rowSums[k] : 0;
+            }
+        }
+
+        int[] newSlots = new int[order.length];
+        for (int i = 0; i < newSlots.length; i++) {
+            newSlots[i] = i;
+        }
+
+        lock.writeLock().lock();
+        try {
+            keys = newKeys;
+            slots = newSlots;
+            names = newNames;
+            counts = newCounts;
+            samples = newSamples;
+            sums = newSums;
+            size = n + 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 음식 1건 기록 (totalAmount 가 있으면 100g 당 영양 성분도 누적)
+    void record(String foodName, Integer totalAmount, double[] nutrients) {
+        if (foodName == null) {
+            return;
+        }
+        String key = FoodNames.compact(foodName);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int i = Arrays.binarySearch(keys, 0, size, key);
+            int slot = i >= 0 ? slots[i] : insertAt(-i - 1, key, foodName.trim());
+            counts[slot]++;
+            if (totalAmount != null && totalAmount > 0) {
+                samples[slot]++;
+                for (int k = 0; k < NUTRIENTS; k++) {
+                    sums[slot * NUTRIENTS + k] += nutrients[k] * 100.0 / totalAmount;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // prefix 로 시작하는 이름 중 사용 횟수 상위 limit 개 (같은 횟수면 이름순)
+    List<MealDto.FoodSuggestion> suggest(String prefix, int limit) {
+        String key = FoodNames.compact(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int from = lowerBound(key);
+            int to = lowerBound(key + Character.MAX_VALUE);
+
+            // 상위 limit 개의 위치를 사용 횟수 내림차순으로 유지
+            int[] top = new int[Math.min(limit, to - from)];
+            int found = 0;
+            for (int i = from; i < to; i++) {
+                int slot = slots[i];
+                if (found == top.length && counts[slot] <= counts[top[found - 1]]) {
+                    continue;
+                }
+                int j = found < top.length ? found++ : found - 1;
+                while (j > 0 && counts[top[j - 1]] < counts[slot]) {
+                    top[j] = top[j - 1];
+                    j--;
+                }
+                top[j] = slot;
+            }
+
+            List<MealDto.FoodSuggestion> result = new ArrayList<>(found);
+            for (int t = 0; t < found; t++) {
+                result.add(toSuggestion(top[t]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private MealDto.FoodSuggestion toSuggestion(int slot) {
+        return MealDto.FoodSuggestion.builder()
+                .foodName(names[slot])
+                .count(counts[slot])
+                .caloriesPer100g(average(slot, 0))
+                .carbohydratePer100g(average(slot, 1))
+                .proteinPer100g(average(slot, 2))
+                .fatPer100g(average(slot, 3))
+                .sodiumPer100g(average(slot, 4))
+                .fiberPer100g(average(slot, 5))
+                .build();
+    }
+
+    private Float average(int slot, int nutrient) {
+        if (samples[slot] == 0) {
+            return null;
+        }
+        return Math.round(sums[slot * NUTRIENTS + nutrient] / samples[slot] * 10) / 10.0f;
+    }
+
+    // key 이상인 첫 위치
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 정렬 위치 i 에 새 이름 추가, 새 slot 번호 반환
+    private int insertAt(int i, String key, String name) {
+        if (size == keys.length) {
+            int capacity = Math.max(16, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+            names = Arrays.copyOf(names, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            samples = Arrays.copyOf(samples, capacity);
+            sums = Arrays.copyOf(sums, capacity * NUTRIENTS);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(slots, i, slots, i + 1, size - i);
+        int slot = size;
+        keys[i] = key;
+        slots[i] = slot;
+        names[slot] = name;
+        size++;
+        return slot;
+    }
+}
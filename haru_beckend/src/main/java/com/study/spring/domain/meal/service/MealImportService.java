@@ -0,0 +1,258 @@
+package com.study.spring.domain.meal.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.spring.domain.meal.dto.MealDto;
+import com.study.spring.domain.meal.repository.FoodJdbcRepository;
+import com.study.spring.domain.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다른 앱에서 옮겨오는 대량 식사 기록 import.
+ * Meal/Food는 IDENTITY 전략이라 JPA로는 INSERT 배치가 되지 않으므로,
+ * JDBC 배치 INSERT + getGeneratedKeys로 meal id를 받아 foods를 이어서 배치 INSERT 한다 (FoodJdbcRepository).
+ * 요청 본문(JSON 배열)은 스트리밍으로 읽어 batch-size 단위로만 메모리에 올린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MealImportService {
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MemberRepository memberRepository;
+    private final DailyNutritionService dailyNutritionService;
+    private final FoodJdbcRepository foodJdbcRepository;
+    private final FoodAutocompleteService foodAutocompleteService;
+
+    @Value("${meal.import.batch-size:500}")
+    private int batchSize;
+
+    private static final String IMPORT_FAILED_REASON = "저장하지 못했습니다.";
+
+    private static final String INSERT_MEAL =
+            "INSERT INTO meals (member_id, meal_type, image_url, memo, total_calories, record_weight, created_at, updated_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @PostConstruct
+    void validateBatchSize() {
+        if (batchSize <= 0) {
+            throw new IllegalStateException("meal.import.batch-size는 1 이상이어야 합니다: " + batchSize);
+        }
+    }
+
+    public MealDto.ImportResult importMeals(Long memberId, InputStream body) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다.");
+        }
+
+        MealDto.ImportResult result = new MealDto.ImportResult();
+        List<IndexedMeal> chunk = new ArrayList<>(batchSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken first;
+            try {
+                first = parser.nextToken();
+            } catch (IOException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요청 본문을 읽을 수 없습니다.");
+            }
+            if (first != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "식사 목록(JSON 배열)이 필요합니다.");
+            }
+
+            int index = 0;
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    int current = index;
+                    if (parser.currentToken() != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        result.setTotal(++index);
+                        result.fail(current, "식사 객체가 아닙니다.");
+                        continue;
+                    }
+
+                    // 트리로 먼저 읽어서 매핑 오류가 나도 파서 위치는 다음 레코드로 넘어가도록 함
+                    JsonNode node = parser.readValueAsTree();
+                    result.setTotal(++index);
+                    MealDto.Request meal;
+                    try {
+                        meal = objectMapper.treeToValue(node, MealDto.Request.class);
+                    } catch (JsonProcessingException e) {
+                        result.fail(current, "잘못된 형식: " + e.getOriginalMessage());
+                        continue;
+                    }
+
+                    String invalid = validate(meal);
+                    if (invalid != null) {
+                        result.fail(current, invalid);
+                        continue;
+                    }
+
+                    chunk.add(new IndexedMeal(current, meal));
+                    if (chunk.size() >= batchSize) {
+                        writeChunk(memberId, chunk, result);
+                        chunk.clear();
+                    }
+                }
+            } catch (IOException e) {
+                // 본문이 중간에 깨지면 그 뒤는 읽지 않고, 앞에서 읽은 레코드까지만 저장한 뒤 실패 위치를 결과에 남김
+                log.warn("Meal import body unreadable at record {}: member={}, {}", index, memberId, e.getMessage());
+                result.setTotal(index + 1);
+                result.fail(index, "요청 본문을 더 읽을 수 없어 이후 레코드는 가져오지 않았습니다.");
+            }
+        } catch (IOException e) {
+            // parser 생성 / close 실패 (읽은 레코드는 아래에서 그대로 저장)
+            log.warn("Meal import body stream failed: member={}, {}", memberId, e.getMessage());
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(memberId, chunk, result);
+        }
+
+        log.info("Meal import finished: member={}, total={}, imported={}, failed={}",
+                memberId, result.getTotal(), result.getImported(), result.getFailures().size());
+        return result;
+    }
+
+    private String validate(MealDto.Request meal) {
+        if (meal.getMealType() == null) {
+            return "mealType은 필수입니다.";
+        }
+        if (meal.getFoods() != null) {
+            for (MealDto.FoodRequest food : meal.getFoods()) {
+                if (food.getFoodName() == null || food.getFoodName().trim().isEmpty()) {
+                    return "foodName은 필수입니다.";
+                }
+            }
+        }
+        return null;
+    }
+
+    // 청크 단위 트랜잭션. 청크가 실패하면 레코드 단위로 다시 시도해서 실패한 레코드만 보고
+    private void writeChunk(Long memberId, List<IndexedMeal> chunk, MealDto.ImportResult result) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        try {
+            tx.executeWithoutResult(status -> insert(memberId, chunk));
+            result.setImported(result.getImported() + chunk.size());
+        } catch (RuntimeException chunkFailure) {
+            log.warn("Meal import batch failed, retrying one by one: {}", chunkFailure.getMessage());
+            for (IndexedMeal meal : chunk) {
+                try {
+                    tx.executeWithoutResult(status -> insert(memberId, List.of(meal)));
+                    result.setImported(result.getImported() + 1);
+                } catch (RuntimeException e) {
+                    // DB 예외 메시지(SQL, 제약 조건 이름)는 응답에 넣지 않고 로그로만 남김
+                    log.warn("Meal import record {} failed: member={}", meal.index, memberId, e);
+                    result.fail(meal.index, IMPORT_FAILED_REASON);
+                }
+            }
+        }
+    }
+
+    private void insert(Long memberId, List<IndexedMeal> meals) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MealDto.Request> requests = new ArrayList<>(meals.size());
+        for (IndexedMeal meal : meals) {
+            requests.add(meal.request);
+        }
+
+        long[] mealIds = jdbcTemplate.execute(
+                (ConnectionCallback<long[]>) connection -> insertMeals(connection, memberId, requests, now));
+        List<List<MealDto.FoodRequest>> foods = new ArrayList<>(requests.size());
+        List<MealDto.FoodRequest> allFoods = new ArrayList<>();
+        for (MealDto.Request request : requests) {
+            foods.add(request.getFoods());
+            if (request.getFoods() != null) {
+                allFoods.addAll(request.getFoods());
+            }
+        }
+        foodJdbcRepository.insertAll(mealIds, foods, batchSize);
+
+        dailyNutritionService.addImportedMeals(memberId, requests, now);
+        // 자동완성 색인에 음식 이름 반영 (청크 트랜잭션 커밋 후, 롤백된 청크는 반영 안 됨)
+        foodAutocompleteService.recordImportedAfterCommit(allFoods);
+    }
+
+    private long[] insertMeals(Connection connection, Long memberId, List<MealDto.Request> meals, LocalDateTime now) throws SQLException {
+        long[] ids = new long[meals.size()];
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_MEAL, Statement.RETURN_GENERATED_KEYS)) {
+            for (MealDto.Request meal : meals) {
+                ps.setLong(1, memberId);
+                ps.setString(2, meal.getMealType().name());
+                ps.setString(3, meal.getImageUrl());
+                ps.setString(4, meal.getMemo());
+                // createMeal과 같이 요청 값 그대로 저장 (없으면 null)
+                setInteger(ps, 5, meal.getTotalCalories());
+                if (meal.getRecordWeight() != null) {
+                    ps.setDouble(6, meal.getRecordWeight());
+                } else {
+                    ps.setNull(6, Types.DOUBLE);
+                }
+                ps.setTimestamp(7, Timestamp.valueOf(now));
+                ps.setTimestamp(8, Timestamp.valueOf(now));
+                ps.setTimestamp(9, Timestamp.valueOf(modifiedAtOf(meal, now)));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                int i = 0;
+                while (keys.next() && i < ids.length) {
+                    ids[i++] = keys.getLong(1);
+                }
+                if (i != ids.length) {
+                    throw new SQLException("생성된 식사 ID 개수가 맞지 않습니다: " + i + "/" + ids.length);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static LocalDateTime modifiedAtOf(MealDto.Request meal, LocalDateTime now) {
+        return meal.getModifiedAt() != null ? meal.getModifiedAt() : now.withSecond(0).withNano(0);
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static class IndexedMeal {
+        private final int index;
+        private final MealDto.Request request;
+
+        IndexedMeal(int index, MealDto.Request request) {
+            this.index = index;
+            this.request = request;
+        }
+    }
+}
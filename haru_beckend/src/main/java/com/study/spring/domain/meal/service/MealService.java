@@ -1,24 +1,33 @@
 package com.study.spring.domain.meal.service;
 
+import com.study.spring.domain.common.dto.ResourceVersion;
+import com.study.spring.domain.common.util.DateRanges;
 import com.study.spring.domain.meal.dto.MealDto;
 import com.study.spring.domain.meal.entity.Food;
 import com.study.spring.domain.meal.entity.Meal;
 import com.study.spring.domain.meal.entity.MealType;
 import com.study.spring.domain.meal.repository.MealRepository;
 import com.study.spring.domain.meal.repository.FoodRepository;
+import com.study.spring.domain.meal.repository.FoodJdbcRepository;
 import com.study.spring.domain.member.entity.Member;
 import com.study.spring.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -26,14 +35,23 @@ public class MealService {
     private final MealRepository mealRepository;
     private final MemberRepository memberRepository;
     private final FoodRepository foodRepository;  // 추가!
+    private final DailyNutritionService dailyNutritionService;
+    private final FoodJdbcRepository foodJdbcRepository;
+    private final FoodAutocompleteService foodAutocompleteService;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int IN_CLAUSE_CHUNK = 1000;
 
     @Transactional
     public MealDto.Response createMeal(Long memberId, MealDto.Request request) {
-        // 회원 존재 확인
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
+        // 회원 존재 여부만 확인하고 엔티티는 id 참조로 사용 (회원 행 전체를 읽지 않음)
+        if (!memberRepository.existsById(memberId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다.");
+        }
+        Member member = memberRepository.getReferenceById(memberId);
 
-        // 1. Meal 저장
+        // 1. Meal 저장 (IDENTITY라 persist 시점에 INSERT 1회, merge 없음)
         Meal meal = Meal.builder()
                 .member(member)
                 .mealType(request.getMealType())
@@ -46,32 +64,36 @@ public class MealService {
 
         Meal savedMeal = mealRepository.save(meal);
 
-        // 2. Food들 생성 및 연관관계 설정
-        if (request.getFoods() != null && !request.getFoods().isEmpty()) {
-            for (MealDto.FoodRequest foodRequest : request.getFoods()) {
-                Food food = Food.builder()
-                        .foodName(foodRequest.getFoodName())
-                        .calories(foodRequest.getCalories())
-                        .carbohydrate(foodRequest.getCarbohydrate())
-                        .protein(foodRequest.getProtein())
-                        .fat(foodRequest.getFat())
-                        .sodium(foodRequest.getSodium())
-                        .fiber(foodRequest.getFiber())
-                        .foodCategory(foodRequest.getFoodCategory())
-                        .totalAmount(foodRequest.getTotalAmount() != null ? foodRequest.getTotalAmount() : 100) // 기본값 100g
-                        .quantity(foodRequest.getQuantity() != null ? foodRequest.getQuantity() : 1) // 기본값 1개
-                        .build();
-                
-                // 양방향 연관관계 설정
-                food.setMeal(savedMeal);
-                savedMeal.getFoods().add(food);
-            }
-            
-            // 다시 저장 (CASCADE로 Food들도 저장)
-            savedMeal = mealRepository.save(savedMeal);
+        // 2. Food들은 한 번의 배치 INSERT로 저장
+        // (IDENTITY 전략에서는 cascade 저장 시 음식마다 INSERT가 따로 나가므로 JDBC 배치 사용)
+        List<MealDto.FoodRequest> foodRequests = request.getFoods() != null ? request.getFoods() : new ArrayList<>();
+        List<Long> foodIds = foodJdbcRepository.insertAll(savedMeal.getId(), foodRequests);
+
+        List<Food> foods = new ArrayList<>(foodRequests.size());
+        for (int i = 0; i < foodRequests.size(); i++) {
+            MealDto.FoodRequest foodRequest = foodRequests.get(i);
+            foods.add(Food.builder()
+                    .id(foodIds.get(i))
+                    .meal(savedMeal)
+                    .foodName(foodRequest.getFoodName())
+                    .calories(foodRequest.getCalories())
+                    .carbohydrate(foodRequest.getCarbohydrate())
+                    .protein(foodRequest.getProtein())
+                    .fat(foodRequest.getFat())
+                    .sodium(foodRequest.getSodium())
+                    .fiber(foodRequest.getFiber())
+                    .foodCategory(foodRequest.getFoodCategory())
+                    .totalAmount(foodRequest.getTotalAmount() != null ? foodRequest.getTotalAmount() : 100) // 기본값 100g
+                    .quantity(foodRequest.getQuantity() != null ? foodRequest.getQuantity() : 1) // 기본값 1개
+                    .build());
         }
 
-        return MealDto.Response.from(savedMeal);
+        // 영속 상태인 savedMeal.getFoods()에는 넣지 않음 (flush 시 cascade로 다시 저장되지 않도록)
+        dailyNutritionService.addMeal(savedMeal, foods);
+        // 자동완성 색인에 음식 이름 반영 (커밋 후)
+        foodAutocompleteService.recordAfterCommit(foods);
+
+        return MealDto.Response.from(savedMeal, foods);
     }
 
     public MealDto.Response getMeal(Long id) {
@@ -82,19 +104,9 @@ public class MealService {
     }
 
     public List<MealDto.Response> getAllMeals() {
-        List<Meal> meals = mealRepository.findAllOrderByModifiedAtDesc();
-        System.out.println("Found " + meals.size() + " meals");
-        System.out.println("=== Sorted Meals ===");
-        for (Meal meal : meals) {
-            System.out.println("Meal ID: " + meal.getId() + 
-                             ", ModifiedAt: " + meal.getModifiedAt() + 
-                             ", CreatedAt: " + meal.getCreatedAt() + 
-                             ", MealType: " + meal.getMealType());
-        }
-        System.out.println("=== End Sorted Meals ===");
-        return meals.stream()
-                .map(MealDto.Response::from)
-                .collect(Collectors.toList());
+        List<MealDto.MealRow> meals = mealRepository.findAllRows();
+        log.debug("Found {} meals", meals.size());
+        return toResponses(meals);
     }
 
     public List<MealDto.Response> getMealsByMemberId(Long memberId) {
@@ -102,38 +114,146 @@ public class MealService {
         memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
 
-        List<Meal> meals = mealRepository.findByMemberIdOrderByModifiedAtDescQuery(memberId);
-        System.out.println("Found " + meals.size() + " meals for member " + memberId);
-        for (Meal meal : meals) {
-            System.out.println("Meal ID: " + meal.getId() + ", ModifiedAt: " + meal.getModifiedAt());
+        List<MealDto.MealRow> meals = mealRepository.findRowsByMemberId(memberId);
+        log.debug("Found {} meals for member {}", meals.size(), memberId);
+        return toResponses(meals);
+    }
+
+    // 최근 limit개만 조회 (목록 API의 bounded 모드)
+    public List<MealDto.Response> getMealsByMemberId(Long memberId, int limit) {
+        memberRepository.findById(memberId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
+
+        return toResponses(mealRepository.findRowsByMemberId(memberId, PageRequest.of(0, clampPageSize(limit))));
+    }
+
+    // 회원 타임라인 커서 페이지 조회 - (modifiedAt, id) 기준 seek 이므로 페이지 깊이와 무관하게 비용 일정
+    public MealDto.TimelineResponse getMealTimeline(Long memberId, String cursor, Integer size) {
+        return getMealTimeline(memberId, null, cursor, size);
+    }
+
+    // mealType이 null이면 전체, 아니면 해당 식사타입만
+    public MealDto.TimelineResponse getMealTimeline(Long memberId, MealType mealType, String cursor, Integer size) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다.");
         }
+
+        int pageSize = clampPageSize(size != null ? size : DEFAULT_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<MealDto.MealRow> meals;
+        if (cursor == null || cursor.isBlank()) {
+            meals = mealType == null
+                    ? mealRepository.findTimelineFirstPage(memberId, limit)
+                    : mealRepository.findTimelineFirstPageByMealType(memberId, mealType, limit);
+        } else {
+            MealDto.Cursor after;
+            try {
+                after = MealDto.Cursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+            }
+            meals = mealType == null
+                    ? mealRepository.findTimelineAfter(memberId, after.getModifiedAt(), after.getId(), limit)
+                    : mealRepository.findTimelineAfterByMealType(memberId, mealType, after.getModifiedAt(), after.getId(), limit);
+        }
+
+        boolean hasNext = meals.size() > pageSize;
+        if (hasNext) {
+            meals = meals.subList(0, pageSize);
+        }
+
+        return MealDto.TimelineResponse.builder()
+                .meals(toResponses(meals))
+                .nextCursor(hasNext ? MealDto.Cursor.of(meals.get(meals.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // projection 결과에 음식 목록을 붙여 응답으로 변환 (식사 쿼리 1번 + 음식 쿼리 IN 청크당 1번)
+    private List<MealDto.Response> toResponses(List<MealDto.MealRow> meals) {
+        if (meals.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> mealIds = meals.stream()
+                .map(MealDto.MealRow::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<MealDto.FoodResponse>> foodsByMealId = new HashMap<>();
+        for (int from = 0; from < mealIds.size(); from += IN_CLAUSE_CHUNK) {
+            List<Long> chunk = mealIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK, mealIds.size()));
+            for (MealDto.FoodRow food : foodRepository.findRowsByMealIdIn(chunk)) {
+                foodsByMealId.computeIfAbsent(food.getMealId(), id -> new ArrayList<>()).add(food.toResponse());
+            }
+        }
+
         return meals.stream()
-                .map(MealDto.Response::from)
+                .map(meal -> MealDto.Response.of(meal, foodsByMealId.getOrDefault(meal.getId(), new ArrayList<>())))
                 .collect(Collectors.toList());
     }
 
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
     @Transactional
     public MealDto.Response updateMeal(Long id, MealDto.Request request) {
         Meal meal = mealRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "식사 기록을 찾을 수 없습니다."));
 
-        // Meal 정보 업데이트
-        Meal updatedMeal = Meal.builder()
-                .id(meal.getId())
-                .member(meal.getMember())
-                .mealType(request.getMealType())
-                .imageUrl(request.getImageUrl())
-                .memo(request.getMemo())
-                .foods(meal.getFoods())  // 기존 음식 리스트 유지
-                .createdAt(meal.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
-                .modifiedAt(request.getModifiedAt() != null ? request.getModifiedAt() : LocalDateTime.now())
-                .totalCalories(request.getTotalCalories())  // totalCalories 추가
-                .recordWeight(request.getRecordWeight())  // recordWeight 추가
-                .build();
+        // 변경 전 날짜 합계에서 제거 (수정 후 날짜가 바뀔 수 있음)
+        dailyNutritionService.removeMeal(meal);
 
-        Meal savedMeal = mealRepository.save(updatedMeal);
-        return MealDto.Response.from(savedMeal);
+        // 영속 상태 엔티티를 직접 수정 - 커밋 시 dirty checking으로 변경된 컬럼만 UPDATE
+        meal.updateMealType(request.getMealType());
+        meal.updateImageUrl(request.getImageUrl());
+        meal.updateMemo(request.getMemo());
+        meal.updateModifiedAt(request.getModifiedAt() != null ? request.getModifiedAt() : LocalDateTime.now());
+        meal.updateTotalCalories(request.getTotalCalories());
+        meal.updateRecordWeight(request.getRecordWeight());
+
+        dailyNutritionService.addMeal(meal);
+        return MealDto.Response.from(meal);
+    }
+
+    // 전달된 필드만 수정 (음식 목록은 건드리지 않음)
+    @Transactional
+    public void patchMeal(Long id, MealDto.PatchRequest request) {
+        Meal meal = mealRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "식사 기록을 찾을 수 없습니다."));
+
+        // 날짜가 바뀌는 경우에만 일일 합계를 옮김 (이때만 foods 로딩)
+        boolean dateChanged = request.getModifiedAt() != null
+                && (meal.getModifiedAt() == null
+                    || !meal.getModifiedAt().toLocalDate().equals(request.getModifiedAt().toLocalDate()));
+        if (dateChanged) {
+            dailyNutritionService.removeMeal(meal);
+        }
+
+        if (request.getMealType() != null) {
+            meal.updateMealType(request.getMealType());
+        }
+        if (request.getImageUrl() != null) {
+            meal.updateImageUrl(request.getImageUrl());
+        }
+        if (request.getMemo() != null) {
+            meal.updateMemo(request.getMemo());
+        }
+        if (request.getModifiedAt() != null) {
+            meal.updateModifiedAt(request.getModifiedAt());
+        }
+        if (request.getTotalCalories() != null) {
+            meal.updateTotalCalories(request.getTotalCalories());
+        }
+        if (request.getRecordWeight() != null) {
+            meal.updateRecordWeight(request.getRecordWeight());
+        }
+
+        if (dateChanged) {
+            dailyNutritionService.addMeal(meal);
+        }
     }
 
     @Transactional
@@ -141,6 +261,7 @@ public class MealService {
         Meal meal = mealRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "식사 기록을 찾을 수 없습니다."));
 
+        dailyNutritionService.removeMeal(meal);
         mealRepository.delete(meal);
     }
 
@@ -149,11 +270,7 @@ public class MealService {
         memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
 
-        // TODO: Repository에 findByMemberIdAndMealType 메서드 추가 필요
-        return mealRepository.findByMemberIdOrderByModifiedAtDescQuery(memberId).stream()
-                .filter(meal -> meal.getMealType() == mealType)
-                .map(MealDto.Response::from)
-                .collect(Collectors.toList());
+        return toResponses(mealRepository.findRowsByMemberIdAndMealType(memberId, mealType));
     }
 
     @Transactional
@@ -161,37 +278,65 @@ public class MealService {
         Meal meal = mealRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "식사 기록을 찾을 수 없습니다."));
 
-        Meal updatedMeal = Meal.builder()
-                .id(meal.getId())
-                .member(meal.getMember())
-                .mealType(meal.getMealType())
-                .imageUrl(imageUrl)  // 이미지만 업데이트
-                .memo(meal.getMemo())
-                .foods(meal.getFoods())
-                .createdAt(meal.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
-                .totalCalories(meal.getTotalCalories())  // 기존 totalCalories 유지
-                .recordWeight(meal.getRecordWeight())  // 기존 recordWeight 유지
-                .build();
+        // 이미지만 변경 (modifiedAt 등 나머지 컬럼은 그대로)
+        meal.updateImageUrl(imageUrl);
+    }
+
+    // ---- 조건부 GET(ETag/Last-Modified)용 버전 조회 - 목록 조회와 같은 조건의 COUNT/MAX(updatedAt) ----
+
+    public ResourceVersion getMealVersion(Long id) {
+        return mealRepository.findVersionById(id);
+    }
+
+    public ResourceVersion getMealsVersion() {
+        return mealRepository.findVersion();
+    }
+
+    public ResourceVersion getMealsVersionByMemberId(Long memberId) {
+        return mealRepository.findVersionByMemberId(memberId);
+    }
+
+    public ResourceVersion getMealsVersionByMemberIdAndMealType(Long memberId, MealType mealType) {
+        return mealRepository.findVersionByMemberIdAndMealType(memberId, mealType);
+    }
 
-        mealRepository.save(updatedMeal);
+    public ResourceVersion getMealsVersionByModifiedDate(LocalDate date) {
+        return mealRepository.findVersionByModifiedAtBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    // 버전(집계 쿼리)보다 먼저 기간 검증 - 잘못된 기간이 304로 응답되지 않도록
+    public ResourceVersion getMealsVersionByMemberIdAndDateRange(Long memberId, LocalDate from, LocalDate to) {
+        DateRanges.validate(from, to);
+        return mealRepository.findVersionByMemberIdAndModifiedAtBetween(
+                memberId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
     }
 
     public List<MealDto.Response> getMealsByModifiedDate(LocalDate date) {
         LocalDateTime start = date.atStartOfDay();
         LocalDateTime end = date.plusDays(1).atStartOfDay();
-        return mealRepository.findByModifiedAtBetween(start, end)
-                .stream()
-                .map(MealDto.Response::from)
-                .collect(Collectors.toList());
+        return toResponses(mealRepository.findRowsByModifiedAtBetween(start, end));
     }
 
     public List<MealDto.Response> getMealsByMemberIdAndModifiedDate(Long memberId, LocalDate date) {
         LocalDateTime start = date.atStartOfDay();
         LocalDateTime end = date.plusDays(1).atStartOfDay();
-        return mealRepository.findByMemberIdAndModifiedAtBetween(memberId, start, end)
-                .stream()
-                .map(MealDto.Response::from)
-                .collect(Collectors.toList());
+        return toResponses(mealRepository.findRowsByMemberIdAndModifiedAtBetween(memberId, start, end));
+    }
+
+    // 회원별 기간 조회 - modifiedAt 범위 쿼리 1번으로 가져와 날짜별로 묶음 (기록이 없는 날은 빈 리스트)
+    public Map<LocalDate, List<MealDto.Response>> getMealsByMemberIdAndDateRange(Long memberId, LocalDate from, LocalDate to) {
+        DateRanges.validate(from, to);
+
+        Map<LocalDate, List<MealDto.Response>> byDate = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            byDate.put(date, new ArrayList<>());
+        }
+
+        List<MealDto.Response> meals = toResponses(mealRepository.findRowsByMemberIdAndModifiedAtBetween(
+                memberId, from.atStartOfDay(), to.plusDays(1).atStartOfDay()));
+        for (MealDto.Response meal : meals) {
+            byDate.get(meal.getModifiedAt().toLocalDate()).add(meal);
+        }
+        return byDate;
     }
-} 
\ No newline at end of file
+}
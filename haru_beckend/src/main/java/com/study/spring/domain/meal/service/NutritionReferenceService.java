@@ -0,0 +1,133 @@
+package com.study.spring.domain.meal.service;
+
+import com.study.spring.domain.meal.util.NutritionReferenceFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로컬 영양 정보 참조 DB (자주 먹는 음식의 1인분 영양 정보).
+ * 시작 시 nutrition-reference.bin 을 메모리 매핑(mmap)해 두고 이름으로 이진 탐색 - 힙을 거의 쓰지 않고
+ * 파이썬 서버 왕복 없이 1ms 이내로 응답한다. 여기 없는 음식만 파이썬 서버에 분석을 요청.
+ * 파일은 food.reference.path 로 지정하거나, 없으면 빌드에 포함된 classpath:nutrition/nutrition-reference.bin 사용.
+ * 조회 결과는 food.reference.lookups{result=hit|miss} 메트릭.
+ */
+@Slf4j
+@Service
+public class NutritionReferenceService {
+
+    private static final String CLASSPATH_FILE = "nutrition/nutrition-reference.bin";
+
+    // 파일이 없으면 null (모든 조회가 miss)
+    private final ByteBuffer file;
+    private final int size;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public NutritionReferenceService(MeterRegistry meterRegistry,
+                                     @Value("${food.reference.path:}") String path) {
+        this.file = map(path);
+        this.size = file != null ? NutritionReferenceFile.validate(file) : 0;
+        log.info("영양 정보 참조 DB: {}개 음식", size);
+
+        this.hits = Counter.builder("food.reference.lookups").tag("result", "hit")
+                .description("로컬 영양 정보 조회").register(meterRegistry);
+        this.misses = Counter.builder("food.reference.lookups").tag("result", "miss")
+                .description("로컬 영양 정보 조회").register(meterRegistry);
+        Gauge.builder("food.reference.entries", this, NutritionReferenceService::size)
+                .description("로컬 영양 정보 참조 DB 음식 수").register(meterRegistry);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 없으면 null
+    public NutritionReferenceFile.Entry find(String foodName) {
+        NutritionReferenceFile.Entry entry = file != null ? NutritionReferenceFile.lookup(file, foodName) : null;
+        (entry != null ? hits : misses).increment();
+        return entry;
+    }
+
+    // 파이썬 텍스트 분석 응답과 같은 형태 + source=reference 로 반환 (없으면 null)
+    public Map<String, Object> analyze(String foodName) {
+        NutritionReferenceFile.Entry entry = find(foodName);
+        if (entry == null) {
+            return null;
+        }
+        Map<String, Object> food = new LinkedHashMap<>();
+        food.put("foodName", entry.getName());
+        food.put("quantity", 1);
+        food.put("calories", round(entry.getCalories()));
+        food.put("carbohydrate", round(entry.getCarbohydrate()));
+        food.put("protein", round(entry.getProtein()));
+        food.put("fat", round(entry.getFat()));
+        food.put("sodium", round(entry.getSodium()));
+        food.put("fiber", round(entry.getFiber()));
+        food.put("totalAmount", round(entry.getServingGrams()));
+        food.put("foodCategory", entry.getCategory());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", true);
+        result.put("result", food);
+        result.put("type", "text_analysis");
+        result.put("model", "local-reference");
+        // 파이썬 서버가 아니라 로컬 참조 DB 에서 찾은 결과임을 표시
+        result.put("source", "reference");
+        return result;
+    }
+
+    private static double round(float value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    // 읽기 전용 mmap (채널을 닫아도 매핑은 유지됨)
+    private static ByteBuffer map(String path) {
+        try {
+            Path source = path.isBlank() ? extractClasspathFile() : Paths.get(path);
+            if (source == null) {
+                log.warn("영양 정보 참조 파일이 없습니다 ({}) - 모든 음식을 파이썬 서버로 분석", CLASSPATH_FILE);
+                return null;
+            }
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("영양 정보 참조 파일을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    // jar/war 안의 리소스는 직접 매핑할 수 없으므로 임시 파일로 꺼냄
+    private static Path extractClasspathFile() throws IOException {
+        ClassPathResource resource = new ClassPathResource(CLASSPATH_FILE);
+        if (!resource.exists()) {
+            return null;
+        }
+        if (resource.isFile()) {
+            return resource.getFile().toPath();
+        }
+        Path tmp = Files.createTempFile("nutrition-reference-", ".bin");
+        tmp.toFile().deleteOnExit();
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return tmp;
+    }
+}
@@ -0,0 +1,24 @@
+package com.study.spring.domain.meal.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 음식 이름 정규화 (분석 캐시 키, 영양 정보 참조 DB 키에서 공통 사용).
+ */
+public final class FoodNames {
+
+    private FoodNames() {
+    }
+
+    // 유니코드 정규화(NFC) + 앞뒤 공백 제거 + 연속 공백 1칸 + 소문자
+    public static String normalize(String foodName) {
+        String normalized = Normalizer.normalize(foodName, Normalizer.Form.NFC);
+        return normalized.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 띄어쓰기 차이도 무시 ("김치 찌개" == "김치찌개")
+    public static String compact(String foodName) {
+        return normalize(foodName).replace(" ", "");
+    }
+}
@@ -0,0 +1,183 @@
+package com.study.spring.domain.meal.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 영양 정보 참조 DB 바이너리 파일 형식 (빌드 시 buildNutritionReference 태스크가 CSV 로 생성, 실행 시 mmap 으로 읽음).
+ *
+ * <pre>
+ * header  : magic "HNRF"(4) | version(int) | count(int)
+ * index   : count x int - 레코드 시작 위치, 조회 키(UTF-8 바이트) 오름차순 정렬
+ * records : keyLength(short) | key(UTF-8) | nameLength(short) | name(UTF-8)
+ *           | calories, carbohydrate, protein, fat, sodium, fiber, servingGrams (float x 7)
+ *           | categoryLength(short) | category(UTF-8)
+ * </pre>
+ * key 는 FoodNames.compact 로 정규화한 조회용 이름, name 은 CSV 의 표시용 이름이다.
+ * 조회는 입력 이름을 한 번 정규화해 UTF-8 바이트로 바꾼 뒤, index 를 이진 탐색하면서 버퍼의 key 바이트와 직접 비교한다
+ * (비교하는 레코드마다 String 을 만들지 않고, 찾은 레코드 하나만 Entry 로 읽음).
+ */
+public final class NutritionReferenceFile {
+
+    private static final int MAGIC = 0x484E5246; // "HNRF"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 12;
+
+    private NutritionReferenceFile() {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final String name;  // 표시용 이름 (CSV 원래 이름)
+        private final float calories;
+        private final float carbohydrate;
+        private final float protein;
+        private final float fat;
+        private final float sodium;
+        private final float fiber;
+        private final float servingGrams;
+        private final String category;
+    }
+
+    // 빌드 태스크용: java NutritionReferenceFile <csv> <bin>
+    public static void main(String[] args) throws IOException {
+        List<Entry> entries = readCsv(Paths.get(args[0]));
+        Path out = Paths.get(args[1]);
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Files.write(out, write(entries));
+        System.out.println("nutrition reference: " + entries.size() + " foods -> " + out);
+    }
+
+    // CSV: name,calories,carbohydrate,protein,fat,sodium,fiber,serving_grams,category (첫 줄 헤더, # 주석)
+    public static List<Entry> readCsv(Path csv) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] cols = line.split(",");
+            if (cols.length != 9) {
+                throw new IllegalArgumentException(csv + ":" + (i + 1) + " 컬럼 수가 9개가 아닙니다: " + line);
+            }
+            entries.add(new Entry(cols[0].trim(),
+                    Float.parseFloat(cols[1]), Float.parseFloat(cols[2]), Float.parseFloat(cols[3]),
+                    Float.parseFloat(cols[4]), Float.parseFloat(cols[5]), Float.parseFloat(cols[6]),
+                    Float.parseFloat(cols[7]), cols[8].trim()));
+        }
+        return entries;
+    }
+
+    public static byte[] write(List<Entry> entries) {
+        // 정규화한 이름의 UTF-8 바이트 순서로 정렬 (조회 시 비교 순서와 동일해야 함)
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(e -> key(e.getName()), Arrays::compareUnsigned));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (Arrays.equals(key(sorted.get(i - 1).getName()), key(sorted.get(i).getName()))) {
+                throw new IllegalArgumentException("중복된 음식 이름: " + sorted.get(i).getName());
+            }
+        }
+
+        int size = HEADER_BYTES + sorted.size() * 4;
+        for (Entry e : sorted) {
+            size += 2 + key(e.getName()).length + 2 + e.getName().getBytes(StandardCharsets.UTF_8).length
+                    + 7 * 4 + 2 + e.getCategory().getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(sorted.size());
+        int recordPosition = HEADER_BYTES + sorted.size() * 4;
+        for (int i = 0; i < sorted.size(); i++) {
+            Entry e = sorted.get(i);
+            buffer.putInt(HEADER_BYTES + i * 4, recordPosition);
+
+            byte[] key = key(e.getName());
+            byte[] name = e.getName().getBytes(StandardCharsets.UTF_8);
+            byte[] category = e.getCategory().getBytes(StandardCharsets.UTF_8);
+            buffer.position(recordPosition);
+            buffer.putShort((short) key.length).put(key)
+                    .putShort((short) name.length).put(name)
+                    .putFloat(e.getCalories()).putFloat(e.getCarbohydrate()).putFloat(e.getProtein())
+                    .putFloat(e.getFat()).putFloat(e.getSodium()).putFloat(e.getFiber()).putFloat(e.getServingGrams())
+                    .putShort((short) category.length).put(category);
+            recordPosition = buffer.position();
+        }
+        return buffer.array();
+    }
+
+    // 파일 형식 확인 후 음식 수 반환
+    public static int validate(ByteBuffer file) {
+        if (file.limit() < HEADER_BYTES || file.getInt(0) != MAGIC || file.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("영양 정보 참조 파일 형식이 아닙니다");
+        }
+        return file.getInt(8);
+    }
+
+    // 없으면 null
+    public static Entry lookup(ByteBuffer file, String foodName) {
+        byte[] key = key(foodName);
+        int low = 0;
+        int high = file.getInt(8) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int record = file.getInt(HEADER_BYTES + mid * 4);
+            int cmp = compareName(file, record, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return readEntry(file, record);
+            }
+        }
+        return null;
+    }
+
+    private static byte[] key(String foodName) {
+        return FoodNames.compact(foodName).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 레코드 key 와 조회 key 를 unsigned 바이트 사전순으로 비교
+    private static int compareName(ByteBuffer file, int record, byte[] key) {
+        int length = file.getShort(record);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.compareUnsigned(file.get(record + 2 + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private static Entry readEntry(ByteBuffer file, int record) {
+        ByteBuffer r = file.duplicate();
+        r.position(record + 2 + file.getShort(record));  // 조회 key 건너뜀
+        byte[] name = new byte[r.getShort()];
+        r.get(name);
+        float calories = r.getFloat();
+        float carbohydrate = r.getFloat();
+        float protein = r.getFloat();
+        float fat = r.getFloat();
+        float sodium = r.getFloat();
+        float fiber = r.getFloat();
+        float servingGrams = r.getFloat();
+        byte[] category = new byte[r.getShort()];
+        r.get(category);
+        return new Entry(new String(name, StandardCharsets.UTF_8), calories, carbohydrate, protein, fat,
+                sodium, fiber, servingGrams, new String(category, StandardCharsets.UTF_8));
+    }
+}
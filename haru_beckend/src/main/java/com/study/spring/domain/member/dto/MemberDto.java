@@ -127,6 +127,7 @@ public class MemberDto {
         private ActivityLevel activityLevel;
         private String profileImageUrl;
         private Role role;
+        private Integer recommendedCalories;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
         
@@ -143,12 +144,80 @@ public class MemberDto {
                     .activityLevel(member.getActivityLevel())
                     .profileImageUrl(member.getProfileImageUrl())
                     .role(member.getRole())
+                    .recommendedCalories(member.getRecommendedCalories())
                     .createdAt(member.getCreatedAt())
                     .updatedAt(member.getUpdatedAt())
                     .build();
         }
+
+        public static Response from(Profile profile) {
+            return Response.builder()
+                    .id(profile.getId())
+                    .email(profile.getEmail())
+                    .nickname(profile.getNickname())
+                    .name(profile.getName())
+                    .birthAt(profile.getBirthAt())
+                    .gender(profile.getGender())
+                    .height(profile.getHeight())
+                    .weight(profile.getWeight())
+                    .activityLevel(profile.getActivityLevel())
+                    .profileImageUrl(profile.getProfileImageUrl())
+                    .role(profile.getRole())
+                    .recommendedCalories(profile.getRecommendedCalories())
+                    .createdAt(profile.getCreatedAt())
+                    .updatedAt(profile.getUpdatedAt())
+                    .build();
+        }
     }
     
+    // 회원 프로필 캐시(MemberProfileCache)에 보관하는 불변 스냅샷
+    // (엔티티는 영속성 컨텍스트에 묶여 있어 요청 간 공유하지 않음, 비밀번호 해시는 보관하지 않음 - 인증은 항상 DB 조회)
+    @AllArgsConstructor
+    @Getter
+    @Builder
+    public static class Profile {
+        private final Long id;
+        private final String email;
+        private final String nickname;
+        private final String name;
+        private final LocalDate birthAt;
+        private final Gender gender;
+        private final Float height;
+        private final Float weight;
+        private final ActivityLevel activityLevel;
+        private final String profileImageUrl;
+        private final Role role;
+        private final Integer recommendedCalories;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        public static Profile from(Member member) {
+            // 저장된 값이 없는 기존 회원은 (스케줄러가 채우기 전까지) 계산해서 사용
+            Integer recommendedCalories = member.getRecommendedCalories();
+            if (recommendedCalories == null && member.getBirthAt() != null && member.getHeight() != null
+                    && member.getWeight() != null && member.getActivityLevel() != null) {
+                recommendedCalories = member.calculateRecommendedCalories();
+            }
+
+            return Profile.builder()
+                    .id(member.getId())
+                    .email(member.getEmail())
+                    .nickname(member.getNickname())
+                    .name(member.getName())
+                    .birthAt(member.getBirthAt())
+                    .gender(member.getGender())
+                    .height(member.getHeight())
+                    .weight(member.getWeight())
+                    .activityLevel(member.getActivityLevel())
+                    .profileImageUrl(member.getProfileImageUrl())
+                    .role(member.getRole())
+                    .recommendedCalories(recommendedCalories)
+                    .createdAt(member.getCreatedAt())
+                    .updatedAt(member.getUpdatedAt())
+                    .build();
+        }
+    }
+
     // Spring Security용 DTO
     @Data
     @NoArgsConstructor
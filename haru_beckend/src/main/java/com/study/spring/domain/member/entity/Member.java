@@ -62,6 +62,10 @@ public class Member {
 	@Builder.Default
 	private Role role = Role.USER;
 
+	// 하루 권장 칼로리 - 키/체중/생년월일/성별/활동량 변경 시, 그리고 생일(나이 변경)에 다시 계산
+	@Column(name = "recommended_calories")
+	private Integer recommendedCalories;
+
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 
@@ -129,11 +133,11 @@ public class Member {
 		// MODERATE stays at 1.55
 		
 		// Calculate Total Daily Energy Expenditure (TDEE) - matching frontend Math.round
-		int tdee = (int) Math.round(bmr * activityFactor);
-		
-		System.out.println("🔧 CALORIES: Age: " + age + ", BMR: " + Math.round(bmr) + 
-			", Activity: " + activityLevel + " (x" + activityFactor + "), TDEE: " + tdee);
-		
-		return tdee;
+		return (int) Math.round(bmr * activityFactor);
+	}
+
+	// 저장된 권장 칼로리를 현재 정보(나이 포함)로 다시 계산
+	public void refreshRecommendedCalories() {
+		this.recommendedCalories = calculateRecommendedCalories();
 	}
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.study.spring.domain.member.repository;
 
 import com.study.spring.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +39,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.name LIKE %:query% OR m.nickname LIKE %:query% OR m.email LIKE %:query%")
     List<Member> searchMembers(@Param("query") String query);
     
+    // 로그인 성공 시 refresh token만 갱신
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Member m SET m.refreshToken = :refreshToken WHERE m.id = :id")
+    int updateRefreshToken(@Param("id") Long id, @Param("refreshToken") String refreshToken);
+    
+    // 생일(월 * 100 + 일)이 주어진 값 중 하나인 회원 - 나이 변경에 따른 권장 칼로리 재계산용
+    // birth_month_day는 birth_at에서 계산되는 생성 컬럼 (V7, idx_member_birth_month_day) - 회원 테이블 전체를 읽지 않음
+    @Query(value = "SELECT * FROM member WHERE birth_month_day IN (:monthDays)", nativeQuery = true)
+    List<Member> findByBirthMonthDayIn(@Param("monthDays") Collection<Integer> monthDays);
+    
+    // 권장 칼로리가 저장되지 않은 회원 (도입 이전 가입자)
+    List<Member> findByRecommendedCaloriesIsNullOrderByIdAsc(Pageable pageable);
+    
     // 활성 회원만 조회
     @Query("SELECT m FROM Member m WHERE m.role != 'DELETED'")
     List<Member> findActiveMembers();
@@ -0,0 +1,137 @@
+package com.study.spring.domain.member.service;
+
+import com.study.spring.domain.member.dto.MemberDto;
+import com.study.spring.domain.member.entity.Member;
+import com.study.spring.domain.member.repository.MemberRepository;
+import com.study.spring.domain.common.util.LruTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회원 프로필 in-process 캐시 (id / 닉네임 / 이메일로 조회).
+ * 서버 인스턴스마다 따로 가지는 캐시 - evict 는 수정 요청을 처리한 인스턴스에만 적용되고 다른 인스턴스는 TTL 후에 반영된다.
+ * 그래서 비밀번호 해시는 보관하지 않으며, 로그인 인증(CustomUserDetailsService)은 이 캐시를 쓰지 않는다.
+ * 프로필은 거의 바뀌지 않지만 거의 모든 화면과 로그인에서 읽히므로 MySQL 조회를 줄이기 위해 사용한다.
+ * - 최대 member.cache.max-size 건, 가장 오래 안 쓴 항목부터 제거 (LRU)
+ * - member.cache.ttl-seconds 가 지나면 다시 DB에서 읽음 (다른 서버 인스턴스에서 수정된 경우 대비)
+ * - 회원 정보 수정/비밀번호 변경/탈퇴 시 evict() 로 즉시 제거 (트랜잭션 커밋 후에도 한 번 더 제거)
+ * 저장소는 공용 LruTtlCache (id 기준), 닉네임 / 이메일은 id 를 가리키는 보조 색인.
+ * 적중률은 cache.gets{cache=member.profile, result=hit|miss} 메트릭으로 확인.
+ */
+@Component
+public class MemberProfileCache {
+
+    private final MemberRepository memberRepository;
+
+    private final LruTtlCache<Long, MemberDto.Profile> byId;
+    // 캐시에서 항목이 빠지면 removal listener 가 같이 지움 (캐시 lock 안에서 호출되므로 동시성 맵 사용)
+    private final Map<String, Long> idByNickname = new ConcurrentHashMap<>();
+    private final Map<String, Long> idByEmail = new ConcurrentHashMap<>();
+    // evict 될 때마다 증가 - DB 조회 중에 evict 된 경우 옛 값을 캐시에 넣지 않도록 비교용 (this 로 동기화)
+    private long invalidations;
+
+    public MemberProfileCache(MemberRepository memberRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${member.cache.max-size:10000}") int maxSize,
+                              @Value("${member.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.byId = new LruTtlCache<>("member.profile", maxSize, Duration.ofSeconds(ttlSeconds), meterRegistry,
+                (id, profile) -> {
+                    idByNickname.remove(profile.getNickname(), id);
+                    idByEmail.remove(profile.getEmail(), id);
+                });
+    }
+
+    public Optional<MemberDto.Profile> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return lookup(byId.get(id), () -> memberRepository.findById(id));
+    }
+
+    public Optional<MemberDto.Profile> findByNickname(String nickname) {
+        if (nickname == null) {
+            return Optional.empty();
+        }
+        return lookup(getCachedByKey(idByNickname, nickname), () -> memberRepository.findByNickname(nickname));
+    }
+
+    public Optional<MemberDto.Profile> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return lookup(getCachedByKey(idByEmail, email), () -> memberRepository.findByEmail(email));
+    }
+
+    // 회원 정보가 바뀌는 곳(수정/비밀번호 변경/탈퇴)에서 호출
+    public void evict(Long id) {
+        remove(id);
+        // 커밋 전에 다른 요청이 옛 값을 다시 캐시할 수 있으므로 트랜잭션 종료 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(id);
+                }
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        byId.clear();
+        invalidations++;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private Optional<MemberDto.Profile> lookup(MemberDto.Profile cached, Supplier<Optional<Member>> loader) {
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long version = currentVersion();
+        Optional<MemberDto.Profile> loaded = loader.get().map(MemberDto.Profile::from);
+        loaded.ifPresent(profile -> put(profile, version));
+        return loaded;
+    }
+
+    private synchronized long currentVersion() {
+        return invalidations;
+    }
+
+    // 색인에 없으면 byId 조회 없이 miss 로 집계
+    private MemberDto.Profile getCachedByKey(Map<String, Long> index, String key) {
+        Long id = index.get(key);
+        if (id == null) {
+            byId.recordMiss();
+            return null;
+        }
+        return byId.get(id);
+    }
+
+    private synchronized void put(MemberDto.Profile profile, long version) {
+        // 조회하는 동안 evict 가 있었으면 (수정 중이던 값일 수 있으므로) 캐시하지 않음
+        if (version != invalidations) {
+            return;
+        }
+        byId.put(profile.getId(), profile);
+        idByNickname.put(profile.getNickname(), profile.getId());
+        idByEmail.put(profile.getEmail(), profile.getId());
+    }
+
+    private synchronized void remove(Long id) {
+        byId.invalidate(id);
+        invalidations++;
+    }
+}
@@ -5,14 +5,19 @@ import com.study.spring.domain.member.entity.Member;
 import com.study.spring.domain.member.entity.Role;
 import com.study.spring.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +26,7 @@ public class MemberService {
     
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberProfileCache memberProfileCache;
     
     // 회원가입
     @Transactional
@@ -58,6 +64,7 @@ public class MemberService {
                 .profileImageUrl(request.getProfileImageUrl()) // 프로필 이미지 URL 설정
                 .role(Role.USER)
                 .build();
+        member.refreshRecommendedCalories();
         
         Member savedMember = memberRepository.save(member);
         System.out.println("✅ 회원가입 완료: " + savedMember.getEmail());
@@ -108,26 +115,26 @@ public class MemberService {
     
     // 회원 정보 조회
     public MemberDto.Response getMember(Long id) {
-        Member member = memberRepository.findById(id)
+        MemberDto.Profile profile = memberProfileCache.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
         
-        return MemberDto.Response.from(member);
+        return MemberDto.Response.from(profile);
     }
     
     // 이메일로 회원 조회
     public MemberDto.Response getMemberByEmail(String email) {
-        Member member = memberRepository.findByEmail(email)
+        MemberDto.Profile profile = memberProfileCache.findByEmail(email)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
         
-        return MemberDto.Response.from(member);
+        return MemberDto.Response.from(profile);
     }
     
     // 닉네임으로 회원 조회
     public MemberDto.Response getMemberByNickname(String nickname) {
-        Member member = memberRepository.findByNickname(nickname)
+        MemberDto.Profile profile = memberProfileCache.findByNickname(nickname)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
         
-        return MemberDto.Response.from(member);
+        return MemberDto.Response.from(profile);
     }
     
     // 회원 정보 수정
@@ -161,10 +168,66 @@ public class MemberService {
                 .profileImageUrl(request.getProfileImageUrl() != null ? request.getProfileImageUrl() : member.getProfileImageUrl())
                 .build();
         
+        // 권장 칼로리에 영향을 주는 값이 바뀐 경우에만 다시 계산
+        if (affectsRecommendedCalories(member, updatedMember)) {
+            updatedMember.refreshRecommendedCalories();
+        }
+        
         Member savedMember = memberRepository.save(updatedMember);
+        memberProfileCache.evict(id);
         return MemberDto.Response.from(savedMember);
     }
     
+    private boolean affectsRecommendedCalories(Member before, Member after) {
+        return before.getRecommendedCalories() == null
+                || !Objects.equals(before.getHeight(), after.getHeight())
+                || !Objects.equals(before.getWeight(), after.getWeight())
+                || !Objects.equals(before.getBirthAt(), after.getBirthAt())
+                || before.getGender() != after.getGender()
+                || before.getActivityLevel() != after.getActivityLevel();
+    }
+    
+    // 생일이 지나 나이가 바뀐 회원의 권장 칼로리 재계산 (RecommendedCaloriesScheduler에서 호출)
+    // 서버가 며칠 내려가 있어도 누락되지 않도록 최근 lookbackDays일 동안의 생일자를 다시 계산 (같은 값이면 UPDATE 없음)
+    @Transactional
+    public int refreshRecommendedCaloriesForBirthdays(LocalDate today, int lookbackDays) {
+        Set<Integer> monthDays = new HashSet<>();
+        for (int i = 0; i <= lookbackDays; i++) {
+            LocalDate day = today.minusDays(i);
+            monthDays.add(day.getMonthValue() * 100 + day.getDayOfMonth());
+            // 평년에는 2월 29일생의 나이가 2월 28일에 바뀜 (LocalDate.plusYears 기준)
+            if (day.getMonthValue() == 2 && day.getDayOfMonth() == 28 && !day.isLeapYear()) {
+                monthDays.add(229);
+            }
+        }
+
+        int refreshed = 0;
+        for (Member member : memberRepository.findByBirthMonthDayIn(monthDays)) {
+            refreshed += refreshRecommendedCalories(member);
+        }
+        return refreshed;
+    }
+    
+    // 권장 칼로리가 아직 저장되지 않은 기존 회원 채우기 - 한 번에 batchSize명씩
+    @Transactional
+    public int backfillRecommendedCalories(int batchSize) {
+        int refreshed = 0;
+        for (Member member : memberRepository.findByRecommendedCaloriesIsNullOrderByIdAsc(PageRequest.of(0, batchSize))) {
+            refreshed += refreshRecommendedCalories(member);
+        }
+        return refreshed;
+    }
+    
+    private int refreshRecommendedCalories(Member member) {
+        Integer before = member.getRecommendedCalories();
+        member.refreshRecommendedCalories();
+        if (Objects.equals(before, member.getRecommendedCalories())) {
+            return 0;
+        }
+        memberProfileCache.evict(member.getId());
+        return 1;
+    }
+    
     // 비밀번호 변경
     @Transactional
     public void updatePassword(Long id, String newPassword) {
@@ -183,6 +246,7 @@ public class MemberService {
                 .build();
         
         memberRepository.save(updatedMember);
+        memberProfileCache.evict(id);
         System.out.println("✅ 비밀번호 변경 완료: " + member.getEmail());
     }
     
@@ -213,6 +277,7 @@ public class MemberService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
         
         memberRepository.delete(member);
+        memberProfileCache.evict(id);
     }
     
     // 이메일 중복 확인
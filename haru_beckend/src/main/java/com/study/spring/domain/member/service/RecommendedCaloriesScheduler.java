@@ -0,0 +1,43 @@
+package com.study.spring.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 저장된 권장 칼로리(Member.recommendedCalories) 갱신.
+ * 키/체중 등은 회원 정보 수정 시 다시 계산되지만, 나이는 생일이 지나면 바뀌므로 매일 한 번 재계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendedCaloriesScheduler {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final MemberService memberService;
+
+    @Value("${member.calories.lookback-days:7}")
+    private int lookbackDays;
+
+    @Scheduled(cron = "${member.calories.refresh-cron:0 5 0 * * *}", zone = "Asia/Seoul")
+    public void refresh() {
+        int birthdays = memberService.refreshRecommendedCaloriesForBirthdays(LocalDate.now(ZONE), lookbackDays);
+
+        // 값이 없는 회원은 배치 단위 트랜잭션으로 채움 (채워진 회원은 다음 조회에서 빠짐)
+        int backfilled = 0;
+        int updated;
+        do {
+            updated = memberService.backfillRecommendedCalories(BACKFILL_BATCH_SIZE);
+            backfilled += updated;
+        } while (updated == BACKFILL_BATCH_SIZE);
+
+        log.info("Recommended calories refreshed: birthdays={}, backfilled={}", birthdays, backfilled);
+    }
+}
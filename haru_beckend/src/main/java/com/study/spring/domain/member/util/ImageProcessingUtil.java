@@ -7,17 +7,32 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
+/**
+ * Upload image pipeline: decode once -> resize main image -> thumbnail from the main image -> encode each once.
+ * Each variant is written straight to its file through an ImageWriter with explicit compression quality
+ * (image.quality / image.thumbnail-quality, applied to JPEG; PNG/GIF/BMP are lossless and use writer defaults).
+ * Uploads much larger than the main image size are subsampled while decoding so the full-size raster is never held.
+ */
 @Slf4j
 @Component
 public class ImageProcessingUtil {
@@ -25,11 +40,20 @@ public class ImageProcessingUtil {
     @Value("${file.upload-dir}")
     private String uploadDir;
 
-    // Configuration constants
-    private static final int MAX_WIDTH = 1200;
-    private static final int MAX_HEIGHT = 1200;
-    private static final int THUMBNAIL_SIZE = 200;
-    private static final float QUALITY = 0.8f; // 80% quality for compression
+    @Value("${image.max-width:1200}")
+    private int maxWidth;
+
+    @Value("${image.max-height:1200}")
+    private int maxHeight;
+
+    @Value("${image.thumbnail-size:200}")
+    private int thumbnailSize;
+
+    @Value("${image.quality:0.8}")
+    private float quality;
+
+    @Value("${image.thumbnail-quality:0.7}")
+    private float thumbnailQuality;
 
     /**
      * Process image with compression, thumbnail generation, and smart naming
@@ -57,27 +81,22 @@ public class ImageProcessingUtil {
             String mainImageFilename = baseFilename + extension;
             String thumbnailFilename = baseFilename + "_thumb" + extension;
 
-            // 3. Process original image (compress and resize if needed)
-            BufferedImage originalImage = ImageIO.read(multipartFile.getInputStream());
-            BufferedImage processedImage = processMainImage(originalImage);
-            
-            // 4. Create thumbnail
-            BufferedImage thumbnailImage = createThumbnail(originalImage);
+            // 3. Decode once (subsampled if far larger than the main image)
+            BufferedImage decodedImage;
+            try (InputStream in = multipartFile.getInputStream()) {
+                decodedImage = decode(in);
+            }
 
-            // 5. Save both images
+            // 4. Derive both sizes from the single decoded raster
+            BufferedImage processedImage = processMainImage(decodedImage);
+            BufferedImage thumbnailImage = createThumbnail(processedImage);
+
+            // 5. Encode each variant once, directly to its file
             File mainImageFile = new File(uploadDir, mainImageFilename);
             File thumbnailFile = new File(uploadDir, thumbnailFilename);
-
-            // Save main image with compression
-            ByteArrayOutputStream mainOutputStream = new ByteArrayOutputStream();
-            ImageIO.write(processedImage, getImageFormat(extension), mainOutputStream);
-            
-            // Compress and save
-            byte[] mainImageBytes = compressImage(mainOutputStream.toByteArray(), extension);
-            java.nio.file.Files.write(mainImageFile.toPath(), mainImageBytes);
-
-            // Save thumbnail
-            ImageIO.write(thumbnailImage, getImageFormat(extension), thumbnailFile);
+            String format = getImageFormat(extension);
+            writeImage(processedImage, format, quality, mainImageFile);
+            writeImage(thumbnailImage, format, thumbnailQuality, thumbnailFile);
 
             // 6. Calculate file sizes and compression ratio
             long originalSize = multipartFile.getSize();
@@ -96,8 +115,8 @@ public class ImageProcessingUtil {
             result.put("timestamp", timestamp);
             result.put("originalFilename", originalFilename);
 
-            log.info("Image processed successfully: {} -> {} (compression: {:.1f}%)", 
-                    originalFilename, mainImageFilename, compressionRatio);
+            log.info("Image processed successfully: {} -> {} (compression: {}%)",
+                    originalFilename, mainImageFilename, String.format("%.1f", compressionRatio));
 
             return result;
 
@@ -108,19 +127,46 @@ public class ImageProcessingUtil {
     }
 
     /**
-     * Process main image - resize if too large and optimize quality
+     * Decode the upload once. When it is at least twice the main image size in both directions,
+     * read every n-th pixel so the decoded raster stays within ~2x of the main image (the resize
+     * step still does the smooth downscale from there).
+     */
+    private BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = Math.max(1, Math.min(
+                        reader.getWidth(0) / (2 * maxWidth), reader.getHeight(0) / (2 * maxHeight)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Process main image - resize if too large (quality is applied when encoding)
      */
     private BufferedImage processMainImage(BufferedImage originalImage) throws IOException {
         int originalWidth = originalImage.getWidth();
         int originalHeight = originalImage.getHeight();
 
         // Check if resizing is needed
-        if (originalWidth <= MAX_WIDTH && originalHeight <= MAX_HEIGHT) {
+        if (originalWidth <= maxWidth && originalHeight <= maxHeight) {
             return originalImage; // No resizing needed
         }
 
         // Calculate new dimensions maintaining aspect ratio
-        double scale = Math.min((double) MAX_WIDTH / originalWidth, (double) MAX_HEIGHT / originalHeight);
+        double scale = Math.min((double) maxWidth / originalWidth, (double) maxHeight / originalHeight);
         int newWidth = (int) (originalWidth * scale);
         int newHeight = (int) (originalHeight * scale);
 
@@ -128,30 +174,62 @@ public class ImageProcessingUtil {
 
         return Thumbnails.of(originalImage)
                 .size(newWidth, newHeight)
-                .outputQuality(QUALITY)
                 .asBufferedImage();
     }
 
     /**
-     * Create thumbnail image
+     * Create thumbnail image from the (already downscaled) main image
      */
-    private BufferedImage createThumbnail(BufferedImage originalImage) throws IOException {
-        return Thumbnails.of(originalImage)
-                .size(THUMBNAIL_SIZE, THUMBNAIL_SIZE)
+    private BufferedImage createThumbnail(BufferedImage mainImage) throws IOException {
+        return Thumbnails.of(mainImage)
+                .size(thumbnailSize, thumbnailSize)
                 .crop(Positions.CENTER) // Crop to square if needed
-                .outputQuality(0.7f) // Lower quality for thumbnail
                 .asBufferedImage();
     }
 
     /**
-     * Compress image bytes
+     * Encode once through an ImageWriter, with explicit compression quality for lossy formats
      */
-    private byte[] compressImage(byte[] imageBytes, String extension) throws IOException {
-        BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        
-        ImageIO.write(image, getImageFormat(extension), outputStream);
-        return outputStream.toByteArray();
+    private void writeImage(BufferedImage image, String format, float compressionQuality, File file) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for " + format);
+        }
+        ImageWriter writer = writers.next();
+        boolean jpeg = "JPEG".equals(format);
+        BufferedImage output = jpeg ? toRgb(image) : image;
+
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (jpeg && param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(compressionQuality);
+        }
+
+        file.delete(); // FileImageOutputStream does not truncate an existing file
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file)) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(output, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * JPEG has no alpha channel - flatten transparent/indexed images onto white
+     */
+    private BufferedImage toRgb(BufferedImage image) {
+        int type = image.getType();
+        if (type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_3BYTE_BGR || type == BufferedImage.TYPE_BYTE_GRAY) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
     }
 
     /**
@@ -23,6 +23,7 @@ import com.study.spring.domain.security.service.CustomUserDetailsService;
 import com.study.spring.domain.security.util.JWTCheckFilter;
 import com.study.spring.domain.security.util.JWTUtil;
 import com.study.spring.domain.member.repository.MemberRepository;
+import com.study.spring.domain.member.service.MemberProfileCache;
 
 @Configuration(proxyBeanMethods = false)
 @EnableWebSecurity
@@ -33,6 +34,7 @@ public class SecurityConfig {
 
     private final JWTUtil jwtUtil;
     private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
     private final CustomUserDetailsService customUserDetailsService;
 
     @Bean
@@ -54,7 +56,7 @@ public class SecurityConfig {
                 config.loginProcessingUrl("/api/members/login");
                 config.usernameParameter("nickname");
                 config.passwordParameter("password");
-                config.successHandler(new APILoginSuccessHandler(jwtUtil, memberRepository));
+                config.successHandler(new APILoginSuccessHandler(jwtUtil, memberRepository, memberProfileCache));
                 config.failureHandler(new APILoginFailHandler());
             })
             
@@ -1,8 +1,8 @@
 package com.study.spring.domain.security.handler;
 
 import com.study.spring.domain.member.dto.MemberDto;
-import com.study.spring.domain.member.entity.Member;
 import com.study.spring.domain.member.repository.MemberRepository;
+import com.study.spring.domain.member.service.MemberProfileCache;
 import com.study.spring.domain.security.util.JWTUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +24,7 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final JWTUtil jwtUtil;
     private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -36,8 +37,8 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
         // MemberDto.Security로 캐스팅 (CustomUserDetailsService에서 반환하는 타입)
         MemberDto.Security memberSecurity = (MemberDto.Security) authentication.getPrincipal();
         
-        // DB에서 실제 Member 엔티티 조회 (추가 정보 필요시)
-        Member member = memberRepository.findById(memberSecurity.getMemberId())
+        // 프로필 캐시에서 회원 정보 조회 (방금 로그인 인증에서 캐시됨)
+        MemberDto.Profile member = memberProfileCache.findById(memberSecurity.getMemberId())
             .orElseThrow(() -> new RuntimeException("Member not found"));
         
         // 모든 사용자 정보를 claims에 포함
@@ -53,7 +54,7 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
         claims.put("activityLevel", member.getActivityLevel().name());
         claims.put("role", memberSecurity.getRole().name());
         claims.put("profileImageUrl", member.getProfileImageUrl());
-        claims.put("recommendedCalories", member.calculateRecommendedCalories());
+        claims.put("recommendedCalories", member.getRecommendedCalories());
         
         // 토큰 생성
         String accessToken = jwtUtil.generateToken(claims, 60); // 60분
@@ -63,9 +64,8 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
         claims.put("accessToken", accessToken);
         claims.put("refreshToken", refreshToken);
         
-        // refresh token을 DB에 저장
-        member.updateRefreshToken(refreshToken);
-        memberRepository.save(member);
+        // refresh token을 DB에 저장 (엔티티 조회 없이 해당 컬럼만 UPDATE)
+        memberRepository.updateRefreshToken(member.getId(), refreshToken);
         
         // JSON 형식으로 전체 정보 응답
         try {
@@ -21,6 +21,8 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("로그인 시도: " + username);
         
+        // 인증 정보는 프로필 캐시를 거치지 않고 항상 DB에서 읽음
+        // (캐시는 서버 인스턴스별이라 다른 인스턴스에서 바뀐 비밀번호/탈퇴가 TTL 동안 반영되지 않음)
         Member member = memberRepository.findByNickname(username)
             .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
         
@@ -0,0 +1,104 @@
+-- Baseline: schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- IF NOT EXISTS lets this run as a no-op against databases created before Flyway was introduced.
+
+CREATE TABLE IF NOT EXISTS member (
+    id                bigint       NOT NULL AUTO_INCREMENT,
+    email             varchar(255) NOT NULL,
+    password          varchar(255) NOT NULL,
+    nickname          varchar(255) NOT NULL,
+    name              varchar(255) NOT NULL,
+    birth_at          date         NOT NULL,
+    gender            enum ('FEMALE','MALE'),
+    height            float(23)    NOT NULL,
+    weight            float(23)    NOT NULL,
+    activity_level    enum ('HIGH','LOW','MODERATE') NOT NULL,
+    profile_image_url varchar(255),
+    role              enum ('ADMIN','USER'),
+    refresh_token     varchar(1000),
+    created_at        datetime(6),
+    updated_at        datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UKmbmcqelty0fbrvxp1q58dn57t UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS meals (
+    id             bigint NOT NULL AUTO_INCREMENT,
+    member_id      bigint NOT NULL,
+    meal_type      enum ('BREAKFAST','DINNER','LUNCH','SNACK') NOT NULL,
+    image_url      varchar(255),
+    memo           TEXT,
+    total_calories integer,
+    record_weight  float(53),
+    created_at     datetime(6),
+    updated_at     datetime(6),
+    modified_at    datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKaht5jgwlagbxmckply469860u FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS foods (
+    id            bigint       NOT NULL AUTO_INCREMENT,
+    meals_id      bigint       NOT NULL,
+    food_name     varchar(255) NOT NULL,
+    calories      integer,
+    carbohydrate  float(23),
+    protein       float(23),
+    fat           float(23),
+    sodium        float(23),
+    fiber         float(23),
+    total_amount  integer,
+    quantity      integer,
+    food_category varchar(20),
+    PRIMARY KEY (id),
+    CONSTRAINT FK58el4o5eeaxlllije2ge2ekns FOREIGN KEY (meals_id) REFERENCES meals (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS daily_nutrition (
+    id             bigint    NOT NULL AUTO_INCREMENT,
+    member_id      bigint    NOT NULL,
+    nutrition_date date      NOT NULL,
+    calories       integer   NOT NULL,
+    carbohydrate   float(53) NOT NULL,
+    protein        float(53) NOT NULL,
+    fat            float(53) NOT NULL,
+    sodium         float(53) NOT NULL,
+    fiber          float(53) NOT NULL,
+    meal_count     integer   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_nutrition_member_date UNIQUE (member_id, nutrition_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS boards (
+    id         bigint       NOT NULL AUTO_INCREMENT,
+    member_id  bigint       NOT NULL,
+    title      varchar(255) NOT NULL,
+    content    TEXT         NOT NULL,
+    created_at datetime(6),
+    updated_at datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FK94kxeiiwuemt3c90ddywkofqm FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS comments (
+    id         bigint NOT NULL AUTO_INCREMENT,
+    boards_id  bigint NOT NULL,
+    member_id  bigint NOT NULL,
+    content    TEXT   NOT NULL,
+    created_at datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKfyl8scjh6tqh5f4c85eg9scvx FOREIGN KEY (boards_id) REFERENCES boards (id),
+    CONSTRAINT FK5my97to6xmqeuycmeelttgj44 FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS issues (
+    id         bigint       NOT NULL AUTO_INCREMENT,
+    admin_id   bigint       NOT NULL,
+    title      varchar(255) NOT NULL,
+    content    TEXT         NOT NULL,
+    reference  varchar(255),
+    role       enum ('ADMIN','USER'),
+    created_at datetime(6),
+    updated_at datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKr8fhogsi936ohocympsdyjfyd FOREIGN KEY (admin_id) REFERENCES member (id)
+) ENGINE = InnoDB;
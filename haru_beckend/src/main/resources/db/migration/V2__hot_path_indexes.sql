@@ -0,0 +1,19 @@
+-- Indexes for the hot read paths in MealRepository, FoodRepository, BoardRepository and CommentRepository.
+-- Keep in sync with @Table(indexes = ...) on the entities.
+
+-- member timeline / day / range views: member_id = ? AND modified_at range, ORDER BY modified_at DESC, id DESC
+CREATE INDEX idx_meals_member_modified ON meals (member_id, modified_at, id);
+-- member meals of one type: member_id = ? AND meal_type = ?, ORDER BY modified_at DESC, id DESC
+CREATE INDEX idx_meals_member_type_modified ON meals (member_id, meal_type, modified_at, id);
+-- all-member day view: modified_at range
+CREATE INDEX idx_meals_modified ON meals (modified_at, id);
+
+-- foods of a page of meals: meals_id IN (...) ORDER BY id
+CREATE INDEX idx_foods_meal ON foods (meals_id, id);
+
+-- boards by member
+CREATE INDEX idx_boards_member ON boards (member_id, id);
+
+-- comments by board / by member
+CREATE INDEX idx_comments_board ON comments (boards_id, id);
+CREATE INDEX idx_comments_member ON comments (member_id, id);
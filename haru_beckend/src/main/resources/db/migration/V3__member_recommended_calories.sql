@@ -0,0 +1,3 @@
+-- Daily calorie target stored on the member (Member.recommendedCalories).
+-- Existing rows stay NULL until RecommendedCaloriesScheduler backfills them; readers fall back to computing it.
+ALTER TABLE member ADD COLUMN recommended_calories INT NULL;
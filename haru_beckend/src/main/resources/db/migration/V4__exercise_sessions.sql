@@ -0,0 +1,16 @@
+-- Exercise sessions logged through ExerciseService (calories computed from the member's weight at logging time).
+-- Keep the index in sync with @Table(indexes = ...) on ExerciseSession.
+CREATE TABLE exercise_sessions (
+    id               bigint       NOT NULL AUTO_INCREMENT,
+    member_id        bigint       NOT NULL,
+    activity         varchar(255) NOT NULL,
+    duration_minutes integer      NOT NULL,
+    weight           float(23)    NOT NULL,
+    calories         integer      NOT NULL,
+    performed_at     datetime(6)  NOT NULL,
+    created_at       datetime(6),
+    PRIMARY KEY (id),
+    -- member day / history views: member_id = ? AND performed_at range, ORDER BY performed_at DESC, id DESC
+    INDEX idx_exercise_sessions_member_performed (member_id, performed_at, id),
+    CONSTRAINT fk_exercise_sessions_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,3 @@
+-- Meals saved before modified_at was always set (Meal.onCreate / MealService) have modified_at NULL,
+-- which keeps them out of the (modified_at, id) cursor timeline and the day views. Use the creation time.
+UPDATE meals SET modified_at = COALESCE(created_at, updated_at, NOW()) WHERE modified_at IS NULL;
@@ -0,0 +1,19 @@
+-- One-time rebuild of the daily_nutrition rollup from the meals and foods that already exist, so that
+-- DailyNutritionService.removeMeal (UPDATE only) always finds the row its meal was counted in.
+-- Rows written before this point (partial, or negative from earlier removals) are replaced.
+DELETE FROM daily_nutrition;
+
+INSERT INTO daily_nutrition (member_id, nutrition_date, calories, carbohydrate, protein, fat, sodium, fiber, meal_count)
+SELECT m.member_id,
+       DATE(m.modified_at),
+       COALESCE(SUM(f.calories), 0),
+       COALESCE(SUM(f.carbohydrate), 0),
+       COALESCE(SUM(f.protein), 0),
+       COALESCE(SUM(f.fat), 0),
+       COALESCE(SUM(f.sodium), 0),
+       COALESCE(SUM(f.fiber), 0),
+       COUNT(DISTINCT m.id)
+FROM meals m
+         LEFT JOIN foods f ON f.meals_id = m.id
+WHERE m.modified_at IS NOT NULL
+GROUP BY m.member_id, DATE(m.modified_at);
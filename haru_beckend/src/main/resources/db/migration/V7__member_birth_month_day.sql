@@ -0,0 +1,6 @@
+-- Birthday lookup for RecommendedCaloriesScheduler (MemberRepository.findByBirthMonthDayIn).
+-- Generated from birth_at (month * 100 + day, e.g. 229 for Feb 29) so the application never writes it;
+-- not mapped on Member, queried natively.
+ALTER TABLE member
+    ADD COLUMN birth_month_day smallint AS (MONTH(birth_at) * 100 + DAYOFMONTH(birth_at)) STORED;
+CREATE INDEX idx_member_birth_month_day ON member (birth_month_day);
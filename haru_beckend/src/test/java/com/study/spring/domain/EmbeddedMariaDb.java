@@ -0,0 +1,36 @@
+package com.study.spring.domain;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * Starts an embedded MariaDB (MariaDB4j) with an empty "harukcal" database and points the
+ * datasource at it; the schema comes only from the Flyway migrations.
+ */
+final class EmbeddedMariaDb {
+
+    private EmbeddedMariaDb() {
+    }
+
+    static DB start(DynamicPropertyRegistry registry) throws ManagedProcessException {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        if ("root".equals(System.getProperty("user.name"))) {
+            config.addArg("--user=root");
+        }
+        config.addArg("--character-set-server=utf8mb4");
+        config.addArg("--collation-server=utf8mb4_unicode_ci");
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB("harukcal");
+
+        int port = config.getPort();
+        registry.add("spring.datasource.url", () -> "jdbc:mysql://localhost:" + port
+                + "/harukcal?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+        return db;
+    }
+}
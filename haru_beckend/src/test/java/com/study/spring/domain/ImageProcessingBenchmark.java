@@ -0,0 +1,207 @@
+package com.study.spring.domain;
+
+import com.study.spring.domain.member.util.ImageProcessingUtil;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.geometry.Positions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Profile image upload: ImageProcessingUtil's single-decode pipeline vs the two-pass path it replaced
+ * (ImageIO.read -> resize main and thumbnail from the full original -> encode main to memory, decode and
+ * re-encode it with ImageIO defaults -> write thumbnail).
+ * Reports CPU time, bytes allocated and peak heap above the post-GC baseline per upload, on synthetic photos.
+ * Peak heap is the sum of the heap pools' peaks, so it is an upper bound. Not part of `test`; run with
+ * {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+class ImageProcessingBenchmark {
+
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 5;
+    // 이전 구현의 상수
+    private static final int MAX_WIDTH = 1200;
+    private static final int MAX_HEIGHT = 1200;
+    private static final int THUMBNAIL_SIZE = 200;
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void uploads() throws IOException {
+        ImageProcessingUtil util = new ImageProcessingUtil();
+        ReflectionTestUtils.setField(util, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(util, "maxWidth", MAX_WIDTH);
+        ReflectionTestUtils.setField(util, "maxHeight", MAX_HEIGHT);
+        ReflectionTestUtils.setField(util, "thumbnailSize", THUMBNAIL_SIZE);
+        ReflectionTestUtils.setField(util, "quality", 0.8f);
+        ReflectionTestUtils.setField(util, "thumbnailQuality", 0.7f);
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-16s %-12s %12s %14s %12s %12s", "upload", "path",
+                "cpu / upload", "alloc / upload", "peak heap", "main size"));
+
+        upload(report, util, 8000, 6000, "jpg");
+        upload(report, util, 4032, 3024, "jpg");
+        upload(report, util, 1600, 1200, "jpg");
+        upload(report, util, 2000, 1500, "png");
+
+        System.out.println(String.join(System.lineSeparator(), report));
+    }
+
+    private void upload(List<String> report, ImageProcessingUtil util, int width, int height, String extension)
+            throws IOException {
+        String name = width + "x" + height + "." + extension;
+        MockMultipartFile file = new MockMultipartFile("file", name, "image/" + extension,
+                syntheticPhoto(width, height, extension));
+
+        report.add(run(name, "two-pass", () -> {
+            twoPassUpload(file, extension);
+            return new File(uploadDir.toFile(), "old." + extension);
+        }));
+        report.add(run(name, "single-pass", () -> {
+            Map<String, Object> result = util.processImage(file);
+            return new File(uploadDir.toFile(), (String) result.get("mainImagePath"));
+        }));
+    }
+
+    private String run(String upload, String path, Upload call) throws IOException {
+        File main = call.run();
+        BufferedImage written = ImageIO.read(main);
+        assertThat(written.getWidth()).isLessThanOrEqualTo(MAX_WIDTH);
+        assertThat(written.getHeight()).isLessThanOrEqualTo(MAX_HEIGHT);
+
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long cpu = 0;
+        long allocated = 0;
+        long peak = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long baseline = settleHeap();
+            long cpuBefore = threads.getCurrentThreadCpuTime();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            call.run();
+            cpu += threads.getCurrentThreadCpuTime() - cpuBefore;
+            allocated += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            peak = Math.max(peak, peakHeap() - baseline);
+        }
+
+        return String.format("%-16s %-12s %9d ms %11d MB %9d MB %9d KB", upload, path,
+                cpu / ITERATIONS / 1_000_000,
+                allocated / ITERATIONS / (1024 * 1024),
+                peak / (1024 * 1024),
+                main.length() / 1024);
+    }
+
+    // 이전 ImageProcessingUtil.processImage 와 같은 순서 (resize 결과의 outputQuality 는 적용되지 않았음)
+    private void twoPassUpload(MockMultipartFile multipartFile, String extension) throws IOException {
+        String format = "png".equals(extension) ? "PNG" : "JPEG";
+        BufferedImage originalImage = ImageIO.read(multipartFile.getInputStream());
+
+        BufferedImage processedImage = originalImage;
+        if (originalImage.getWidth() > MAX_WIDTH || originalImage.getHeight() > MAX_HEIGHT) {
+            double scale = Math.min((double) MAX_WIDTH / originalImage.getWidth(),
+                    (double) MAX_HEIGHT / originalImage.getHeight());
+            processedImage = Thumbnails.of(originalImage)
+                    .size((int) (originalImage.getWidth() * scale), (int) (originalImage.getHeight() * scale))
+                    .outputQuality(0.8f)
+                    .asBufferedImage();
+        }
+        BufferedImage thumbnailImage = Thumbnails.of(originalImage)
+                .size(THUMBNAIL_SIZE, THUMBNAIL_SIZE)
+                .crop(Positions.CENTER)
+                .outputQuality(0.7f)
+                .asBufferedImage();
+
+        ByteArrayOutputStream mainOutputStream = new ByteArrayOutputStream();
+        ImageIO.write(processedImage, format, mainOutputStream);
+        BufferedImage reread = ImageIO.read(new ByteArrayInputStream(mainOutputStream.toByteArray()));
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        ImageIO.write(reread, format, compressed);
+        Files.write(uploadDir.resolve("old." + extension), compressed.toByteArray());
+
+        ImageIO.write(thumbnailImage, format, uploadDir.resolve("old_thumb." + extension).toFile());
+    }
+
+    // 그라데이션 + 도형 + 노이즈 - 단색 이미지보다 실제 사진에 가까운 압축률
+    private static byte[] syntheticPhoto(int width, int height, String extension) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        Random random = new Random(42);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, new Color(210, 170, 120), width, height, new Color(60, 90, 40)));
+            g.fillRect(0, 0, width, height);
+            for (int i = 0; i < 400; i++) {
+                g.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256)));
+                int size = width / 40 + random.nextInt(width / 8);
+                g.fillOval(random.nextInt(width), random.nextInt(height), size, size * 2 / 3);
+            }
+        } finally {
+            g.dispose();
+        }
+        byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = (byte) Math.max(0, Math.min(255, (pixels[i] & 0xFF) + random.nextInt(17) - 8));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png".equals(extension) ? "PNG" : "JPEG", out);
+        return out.toByteArray();
+    }
+
+    // GC 후 힙 사용량을 기준으로 하고 각 힙 영역의 최대치를 초기화
+    private static long settleHeap() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private interface Upload {
+        File run() throws IOException;
+    }
+}
@@ -0,0 +1,189 @@
+package com.study.spring.domain;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import com.study.spring.domain.meal.dto.MealDto;
+import com.study.spring.domain.meal.entity.Meal;
+import com.study.spring.domain.meal.entity.MealType;
+import com.study.spring.domain.meal.repository.FoodJdbcRepository;
+import com.study.spring.domain.meal.service.DailyNutritionService;
+import com.study.spring.domain.meal.service.FoodAutocompleteService;
+import com.study.spring.domain.meal.service.MealService;
+import com.study.spring.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Meal list endpoints: DTO projections (MealService) vs the entity path they replaced
+ * (fetch-joined / @BatchSize Meal entities mapped with MealDto.Response.from).
+ * Reports statements, latency and bytes allocated per call. Not part of `test`; run with
+ * {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MealService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MealListBenchmark {
+
+    private static final long MEMBER_ID = 1L;
+    private static final int MEALS = 1_000;
+    private static final int FOODS_PER_MEAL = 3;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+    // MealRepository.findRowsByMemberId 와 같은 정렬 (이전 엔티티 쿼리도 동일)
+    private static final String MEMBER_ORDER =
+            "ORDER BY CASE WHEN m.modifiedAt IS NULL THEN 0 ELSE 1 END DESC, m.modifiedAt DESC, m.id DESC";
+
+    private static DB db;
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired MealService mealService;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @MockitoBean DailyNutritionService dailyNutritionService;
+    @MockitoBean FoodJdbcRepository foodJdbcRepository;
+    @MockitoBean FoodAutocompleteService foodAutocompleteService;
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) throws ManagedProcessException {
+        db = EmbeddedMariaDb.start(registry);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws ManagedProcessException {
+        if (db != null) {
+            db.stop();
+        }
+    }
+
+    @Test
+    void memberMealLists() {
+        seed();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-28s %-10s %10s %12s %14s", "list (" + MEALS + " meals x " + FOODS_PER_MEAL + " foods)",
+                "path", "statements", "avg latency", "alloc / call"));
+
+        // getMealsByMemberId 이전 구현과 같게 (식사별 디버그 출력 포함)
+        report.add(run("full history", "entity", () -> readOnly.execute(status -> {
+            entityManager.find(Member.class, MEMBER_ID);
+            List<Meal> meals = entityManager.createQuery("SELECT m FROM Meal m LEFT JOIN FETCH m.foods " +
+                            "WHERE m.member.id = :memberId " + MEMBER_ORDER, Meal.class)
+                    .setParameter("memberId", MEMBER_ID)
+                    .getResultList();
+            System.out.println("Found " + meals.size() + " meals for member " + MEMBER_ID);
+            for (Meal meal : meals) {
+                System.out.println("Meal ID: " + meal.getId() + ", ModifiedAt: " + meal.getModifiedAt());
+            }
+            return meals.stream()
+                    .map(MealDto.Response::from)
+                    .collect(Collectors.toList());
+        }), MEALS));
+        report.add(run("full history", "projection", () -> mealService.getMealsByMemberId(MEMBER_ID), MEALS));
+
+        report.add(run("first " + PAGE_SIZE, "entity", () -> readOnly.execute(status -> {
+            entityManager.find(Member.class, MEMBER_ID);
+            return entityManager.createQuery("SELECT m FROM Meal m WHERE m.member.id = :memberId " + MEMBER_ORDER, Meal.class)
+                    .setParameter("memberId", MEMBER_ID)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList().stream()
+                    .map(MealDto.Response::from)
+                    .collect(Collectors.toList());
+        }), PAGE_SIZE));
+        report.add(run("first " + PAGE_SIZE, "projection", () -> mealService.getMealsByMemberId(MEMBER_ID, PAGE_SIZE), PAGE_SIZE));
+
+        System.out.println(String.join(System.lineSeparator(), report));
+    }
+
+    private String run(String list, String path, Supplier<List<MealDto.Response>> call, int expectedMeals) {
+        List<MealDto.Response> meals = call.get();
+        assertThat(meals).hasSize(expectedMeals);
+        assertThat(meals).allSatisfy(meal -> assertThat(meal.getFoods()).hasSize(FOODS_PER_MEAL));
+
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        statistics.clear();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return String.format("%-28s %-10s %10d %10.2f ms %11d KB", list, path,
+                statistics.getPrepareStatementCount() / ITERATIONS,
+                elapsed / 1e6 / ITERATIONS,
+                allocated / ITERATIONS / 1024);
+    }
+
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO member (id, email, password, nickname, name, birth_at, height, weight, " +
+                "activity_level, role, created_at) VALUES (?, 'm@haru.test', 'pw', 'nick', 'name', '1990-01-01', " +
+                "170, 60, 'MODERATE', 'USER', ?)", MEMBER_ID, Timestamp.valueOf(now));
+
+        MealType[] types = MealType.values();
+        List<Object[]> meals = new ArrayList<>();
+        List<Object[]> foods = new ArrayList<>();
+        for (long mealId = 1; mealId <= MEALS; mealId++) {
+            LocalDateTime modifiedAt = LocalDate.of(2024, 1, 1).plusDays(mealId / 3).atTime(8 + (int) (mealId % 3) * 5, 0);
+            meals.add(new Object[]{mealId, MEMBER_ID, types[(int) (mealId % types.length)].name(), "memo " + mealId,
+                    Timestamp.valueOf(now), Timestamp.valueOf(now), Timestamp.valueOf(modifiedAt)});
+            for (int f = 0; f < FOODS_PER_MEAL; f++) {
+                foods.add(new Object[]{mealId, "food" + f, 100 + f, 10.5, 5.5, 3.5, 120.0, 1.5, 150, 1, "KOREAN"});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meals (id, member_id, meal_type, memo, created_at, updated_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", meals);
+        jdbcTemplate.batchUpdate("INSERT INTO foods (meals_id, food_name, calories, carbohydrate, protein, fat, sodium, " +
+                "fiber, total_amount, quantity, food_category) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", foods);
+    }
+}
@@ -0,0 +1,170 @@
+package com.study.spring.domain;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import com.study.spring.domain.meal.dto.MealDto;
+import com.study.spring.domain.meal.entity.Meal;
+import com.study.spring.domain.meal.entity.MealType;
+import com.study.spring.domain.meal.repository.FoodJdbcRepository;
+import com.study.spring.domain.meal.repository.MealRepository;
+import com.study.spring.domain.meal.service.DailyNutritionService;
+import com.study.spring.domain.meal.service.FoodAutocompleteService;
+import com.study.spring.domain.meal.service.MealService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression test for N+1 loading on the meal list endpoints: counts the JDBC statements Hibernate
+ * prepares (Statistics) for a member with many meals and asserts the count does not depend on how
+ * many meals or foods are returned.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MealService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MealListQueryCountTest {
+
+    private static final long MEMBER_ID = 1L;
+    private static final int MEALS = 40;
+    private static final int FOODS_PER_MEAL = 3;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 3, 1);
+
+    private static DB db;
+    private static boolean seeded;
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired MealService mealService;
+    @Autowired MealRepository mealRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @MockitoBean DailyNutritionService dailyNutritionService;
+    @MockitoBean FoodJdbcRepository foodJdbcRepository;
+    @MockitoBean FoodAutocompleteService foodAutocompleteService;
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) throws ManagedProcessException {
+        db = EmbeddedMariaDb.start(registry);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws ManagedProcessException {
+        if (db != null) {
+            db.stop();
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO member (id, email, password, nickname, name, birth_at, height, weight, " +
+                "activity_level, role, created_at) VALUES (?, 'm@haru.test', 'pw', 'nick', 'name', '1990-01-01', " +
+                "170, 60, 'MODERATE', 'USER', ?)", MEMBER_ID, Timestamp.valueOf(now));
+
+        MealType[] types = MealType.values();
+        List<Object[]> meals = new ArrayList<>();
+        List<Object[]> foods = new ArrayList<>();
+        for (long mealId = 1; mealId <= MEALS; mealId++) {
+            LocalDateTime modifiedAt = FIRST_DAY.plusDays(mealId / 4).atTime(7 + (int) (mealId % 4) * 4, 0);
+            meals.add(new Object[]{mealId, MEMBER_ID, types[(int) (mealId % types.length)].name(),
+                    Timestamp.valueOf(now), Timestamp.valueOf(now), Timestamp.valueOf(modifiedAt)});
+            for (int f = 0; f < FOODS_PER_MEAL; f++) {
+                foods.add(new Object[]{mealId, "food" + f, 100});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meals (id, member_id, meal_type, created_at, updated_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", meals);
+        jdbcTemplate.batchUpdate("INSERT INTO foods (meals_id, food_name, calories) VALUES (?, ?, ?)", foods);
+        seeded = true;
+    }
+
+    @Test
+    void memberHistory() {
+        // 회원 확인 1 + 식사 1 + 음식 IN 1 (식사 / 음식 수와 무관)
+        List<MealDto.Response> meals = countStatements(3, () -> mealService.getMealsByMemberId(MEMBER_ID));
+        assertThat(meals).hasSize(MEALS);
+        assertThat(meals).allSatisfy(meal -> assertThat(meal.getFoods()).hasSize(FOODS_PER_MEAL));
+
+        assertThat(countStatements(3, () -> mealService.getMealsByMemberId(MEMBER_ID, 25))).hasSize(25);
+    }
+
+    @Test
+    void memberTimeline() {
+        MealDto.TimelineResponse first = countStatements(3, () -> mealService.getMealTimeline(MEMBER_ID, null, 15));
+        assertThat(first.getMeals()).hasSize(15);
+        assertThat(first.getMeals()).allSatisfy(meal -> assertThat(meal.getFoods()).hasSize(FOODS_PER_MEAL));
+
+        MealDto.TimelineResponse next = countStatements(3,
+                () -> mealService.getMealTimeline(MEMBER_ID, first.getNextCursor(), 15));
+        assertThat(next.getMeals()).hasSize(15);
+    }
+
+    @Test
+    void memberMealType() {
+        List<MealDto.Response> meals = countStatements(3,
+                () -> mealService.getMealsByMemberIdAndMealType(MEMBER_ID, MealType.BREAKFAST));
+        assertThat(meals).isNotEmpty();
+        assertThat(meals).allSatisfy(meal -> assertThat(meal.getFoods()).hasSize(FOODS_PER_MEAL));
+    }
+
+    @Test
+    void memberDateRange() {
+        Map<LocalDate, List<MealDto.Response>> byDate = countStatements(2,
+                () -> mealService.getMealsByMemberIdAndDateRange(MEMBER_ID, FIRST_DAY, FIRST_DAY.plusDays(30)));
+        assertThat(byDate.values().stream().mapToInt(List::size).sum()).isEqualTo(MEALS);
+    }
+
+    @Test
+    void entityRangeWithFoods() {
+        // 일일 영양 합계 재계산 경로: foods fetch join 이므로 1번
+        int foods = countStatements(1, () -> transactionTemplate.execute(status -> {
+            List<Meal> meals = mealRepository.findByMemberIdAndModifiedAtBetween(
+                    MEMBER_ID, FIRST_DAY.atStartOfDay(), FIRST_DAY.plusDays(31).atStartOfDay());
+            return meals.stream().mapToInt(meal -> meal.getFoods().size()).sum();
+        }));
+        assertThat(foods).isEqualTo(MEALS * FOODS_PER_MEAL);
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount()).as("prepared statements").isEqualTo(expected);
+        return result;
+    }
+}
@@ -0,0 +1,249 @@
+package com.study.spring.domain;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import com.study.spring.domain.board.repository.BoardRepository;
+import com.study.spring.domain.board.repository.CommentRepository;
+import com.study.spring.domain.meal.dto.MealDto;
+import com.study.spring.domain.meal.entity.MealType;
+import com.study.spring.domain.meal.repository.DailyNutritionRepository;
+import com.study.spring.domain.meal.repository.FoodRepository;
+import com.study.spring.domain.meal.repository.MealRepository;
+import com.study.spring.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the hot repository queries against an embedded MariaDB whose schema comes only from the
+ * Flyway migrations, captures the SQL Hibernate actually sent (general_log) and fails if EXPLAIN
+ * shows a full table scan (type = ALL) for any table in the plan.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryQueryPlanTest {
+
+    private static final int MEMBERS = 50;
+    private static final int MEALS_PER_MEMBER = 120;
+    private static final int FOODS_PER_MEAL = 2;
+    private static final int BOARDS_PER_MEMBER = 10;
+    private static final int COMMENTS_PER_BOARD = 4;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    private static DB db;
+    private static boolean seeded;
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired MealRepository mealRepository;
+    @Autowired FoodRepository foodRepository;
+    @Autowired DailyNutritionRepository dailyNutritionRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired BoardRepository boardRepository;
+    @Autowired CommentRepository commentRepository;
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) throws ManagedProcessException {
+        db = EmbeddedMariaDb.start(registry);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws ManagedProcessException {
+        if (db != null) {
+            db.stop();
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 1; i <= MEMBERS; i++) {
+            members.add(new Object[]{i, "m" + i + "@haru.test", "pw", "nick" + i, "name" + i,
+                    LocalDate.of(1990, 1, 1).plusDays(i * 7L), 170f, 60f, "MODERATE", "USER", Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (id, email, password, nickname, name, birth_at, height, weight, " +
+                "activity_level, role, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", members);
+
+        MealType[] types = MealType.values();
+        List<Object[]> meals = new ArrayList<>();
+        List<Object[]> foods = new ArrayList<>();
+        List<Object[]> dailyNutrition = new ArrayList<>();
+        long mealId = 0;
+        for (int member = 1; member <= MEMBERS; member++) {
+            for (int i = 0; i < MEALS_PER_MEMBER; i++) {
+                mealId++;
+                LocalDateTime modifiedAt = FIRST_DAY.plusDays(i / 2).atTime(8 + (i % 2) * 10, member % 60);
+                meals.add(new Object[]{mealId, member, types[i % types.length].name(),
+                        Timestamp.valueOf(now), Timestamp.valueOf(now), Timestamp.valueOf(modifiedAt)});
+                for (int f = 0; f < FOODS_PER_MEAL; f++) {
+                    foods.add(new Object[]{mealId, "food" + (mealId % 300), 100});
+                }
+            }
+            for (int day = 0; day < MEALS_PER_MEMBER / 2; day++) {
+                dailyNutrition.add(new Object[]{member, FIRST_DAY.plusDays(day).toString()});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meals (id, member_id, meal_type, created_at, updated_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", meals);
+        jdbcTemplate.batchUpdate("INSERT INTO foods (meals_id, food_name, calories) VALUES (?, ?, ?)", foods);
+        jdbcTemplate.batchUpdate("INSERT INTO daily_nutrition (member_id, nutrition_date, calories, carbohydrate, " +
+                "protein, fat, sodium, fiber, meal_count) VALUES (?, ?, 0, 0, 0, 0, 0, 0, 1)", dailyNutrition);
+
+        List<Object[]> boards = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        long boardId = 0;
+        for (int member = 1; member <= MEMBERS; member++) {
+            for (int b = 0; b < BOARDS_PER_MEMBER; b++) {
+                boardId++;
+                boards.add(new Object[]{boardId, member, "title", "content", Timestamp.valueOf(now)});
+                for (int c = 0; c < COMMENTS_PER_BOARD; c++) {
+                    comments.add(new Object[]{boardId, (member + c) % MEMBERS + 1, "comment", Timestamp.valueOf(now)});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO boards (id, member_id, title, content, created_at) VALUES (?, ?, ?, ?, ?)", boards);
+        jdbcTemplate.batchUpdate("INSERT INTO comments (boards_id, member_id, content, created_at) VALUES (?, ?, ?, ?)", comments);
+
+        jdbcTemplate.execute("ANALYZE TABLE member, meals, foods, daily_nutrition, boards, comments");
+        jdbcTemplate.execute("SET GLOBAL log_output = 'TABLE'");
+        seeded = true;
+    }
+
+    // ---- meals ----
+
+    @Test
+    void memberDayView() {
+        LocalDateTime start = FIRST_DAY.plusDays(10).atStartOfDay();
+        assertNoFullTableScan(() -> mealRepository.findRowsByMemberIdAndModifiedAtBetween(7L, start, start.plusDays(1)));
+    }
+
+    @Test
+    void memberDayViewWithEntities() {
+        LocalDateTime start = FIRST_DAY.plusDays(10).atStartOfDay();
+        assertNoFullTableScan(() -> mealRepository.findByMemberIdAndModifiedAtBetween(7L, start, start.plusDays(1)));
+    }
+
+    @Test
+    void allMembersDayView() {
+        LocalDateTime start = FIRST_DAY.plusDays(10).atStartOfDay();
+        assertNoFullTableScan(() -> mealRepository.findRowsByModifiedAtBetween(start, start.plusDays(1)));
+    }
+
+    @Test
+    void memberHistory() {
+        assertNoFullTableScan(() -> mealRepository.findRowsByMemberId(7L));
+        assertNoFullTableScan(() -> mealRepository.findRowsByMemberId(7L, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void memberTimeline() {
+        assertNoFullTableScan(() -> mealRepository.findTimelineFirstPage(7L, PageRequest.of(0, 21)));
+        assertNoFullTableScan(() -> mealRepository.findTimelineAfter(
+                7L, FIRST_DAY.plusDays(30).atTime(8, 0), 1_000L, PageRequest.of(0, 21)));
+    }
+
+    @Test
+    void memberMealType() {
+        assertNoFullTableScan(() -> mealRepository.findRowsByMemberIdAndMealType(7L, MealType.BREAKFAST));
+        assertNoFullTableScan(() -> mealRepository.findTimelineFirstPageByMealType(7L, MealType.BREAKFAST, PageRequest.of(0, 21)));
+        assertNoFullTableScan(() -> mealRepository.findTimelineAfterByMealType(
+                7L, MealType.BREAKFAST, FIRST_DAY.plusDays(30).atTime(8, 0), 1_000L, PageRequest.of(0, 21)));
+    }
+
+    // ---- foods ----
+
+    @Test
+    void foodsOfMealPage() {
+        List<Long> mealIds = LongStream.rangeClosed(1_000, 1_020).boxed().collect(Collectors.toList());
+        assertNoFullTableScan(() -> foodRepository.findRowsByMealIdIn(mealIds));
+        assertNoFullTableScan(() -> foodRepository.findByMealId(1_000L));
+    }
+
+    // ---- daily nutrition ----
+
+    @Test
+    void dailyNutritionRange() {
+        assertNoFullTableScan(() -> dailyNutritionRepository.findByMemberIdAndDateBetweenOrderByDateAsc(
+                7L, FIRST_DAY, FIRST_DAY.plusDays(29)));
+    }
+
+    // ---- members ----
+
+    @Test
+    void birthdayMembers() {
+        // 권장 칼로리 재계산 스케줄러: 최근 며칠간의 생일자
+        assertNoFullTableScan(() -> memberRepository.findByBirthMonthDayIn(List.of(219, 220, 221)));
+    }
+
+    // ---- boards / comments ----
+
+    @Test
+    void boardsAndComments() {
+        assertNoFullTableScan(() -> boardRepository.findByMemberId(7L));
+        assertNoFullTableScan(() -> commentRepository.findByBoardId(70L));
+        assertNoFullTableScan(() -> commentRepository.findByMemberId(7L));
+    }
+
+    private void assertNoFullTableScan(Runnable query) {
+        List<String> statements = capture(query);
+        assertThat(statements).as("captured SELECT statements").isNotEmpty();
+
+        for (String sql : statements) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            for (Map<String, Object> row : plan) {
+                assertThat(String.valueOf(row.get("type")))
+                        .as("full table scan on %s (key=%s) in:%n%s", row.get("table"), row.get("key"), sql)
+                        .isNotEqualToIgnoringCase("ALL");
+            }
+        }
+    }
+
+    // Hibernate가 실제로 보낸 SQL(바인딩 값 포함)을 general_log에서 가져옴
+    private List<String> capture(Runnable query) {
+        jdbcTemplate.execute("SET GLOBAL general_log = 'OFF'");
+        jdbcTemplate.execute("TRUNCATE TABLE mysql.general_log");
+        jdbcTemplate.execute("SET GLOBAL general_log = 'ON'");
+        try {
+            query.run();
+        } finally {
+            jdbcTemplate.execute("SET GLOBAL general_log = 'OFF'");
+        }
+        return jdbcTemplate.queryForList(
+                        "SELECT CONVERT(argument USING utf8mb4) FROM mysql.general_log WHERE command_type = 'Query'",
+                        String.class)
+                .stream()
+                .map(String::trim)
+                .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6) && !sql.contains("@@"))
+                .collect(Collectors.toList());
+    }
+}
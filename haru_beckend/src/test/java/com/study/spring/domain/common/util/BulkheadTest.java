@@ -0,0 +1,125 @@
+package com.study.spring.domain.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bulkhead: at most maxConcurrent calls run at once; a caller waits up to maxWait for a permit and is
+ * rejected with BulkheadFullException after that. Permits come back even when the call throws.
+ */
+class BulkheadTest {
+
+    private static final int MAX_CONCURRENT = 2;
+    private static final long MAX_WAIT_MILLIS = 100;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Bulkhead bulkhead = new Bulkhead("test", MAX_CONCURRENT, Duration.ofMillis(MAX_WAIT_MILLIS), registry);
+
+    @Test
+    void rejectsAfterMaxWaitWhenAllPermitsAreTaken() throws Exception {
+        CountDownLatch started = new CountDownLatch(MAX_CONCURRENT);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(MAX_CONCURRENT);
+        try {
+            List<Future<String>> holders = new ArrayList<>();
+            for (int i = 0; i < MAX_CONCURRENT; i++) {
+                holders.add(pool.submit(() -> bulkhead.execute(() -> {
+                    started.countDown();
+                    await(release);
+                    return "held";
+                })));
+            }
+            await(started);
+            assertThat(available()).isZero();
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> bulkhead.execute(() -> "not called"))
+                    .isInstanceOf(Bulkhead.BulkheadFullException.class);
+            // 바로 거절하지 않고 maxWait 만큼은 기다림
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(MAX_WAIT_MILLIS - 10);
+            assertThat(rejected()).isEqualTo(1);
+
+            release.countDown();
+            for (Future<String> holder : holders) {
+                assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("held");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(available()).isEqualTo(MAX_CONCURRENT);
+    }
+
+    @Test
+    void waitingCallerGetsAPermitReleasedWithinMaxWait() throws Exception {
+        Bulkhead single = new Bulkhead("single", 1, Duration.ofSeconds(5), registry);
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> holder = pool.submit(() -> single.execute(() -> {
+                started.countDown();
+                sleep(100);
+                return "first";
+            }));
+            await(started);
+
+            assertThat(single.execute(() -> "second")).isEqualTo("second");
+            assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(registry.get("bulkhead.rejected").tag("name", "single").counter().count()).isZero();
+    }
+
+    @Test
+    void permitIsReleasedWhenTheCallThrows() {
+        for (int i = 0; i < MAX_CONCURRENT + 1; i++) {
+            assertThatThrownBy(() -> bulkhead.execute(() -> {
+                throw new IllegalStateException("upstream down");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(available()).isEqualTo(MAX_CONCURRENT);
+        assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(rejected()).isZero();
+    }
+
+    private double available() {
+        return registry.get("bulkhead.available").tag("name", "test").gauge().value();
+    }
+
+    private double rejected() {
+        return registry.get("bulkhead.rejected").tag("name", "test").counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
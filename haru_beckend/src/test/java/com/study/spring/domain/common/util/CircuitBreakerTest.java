@@ -0,0 +1,179 @@
+package com.study.spring.domain.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CircuitBreaker state transitions: CLOSED -> OPEN after failureThreshold consecutive recorded failures,
+ * a single HALF_OPEN probe once openDuration has passed, and CLOSED or OPEN again depending on the probe.
+ * Exceptions rejected by the recordFailure predicate count as successful calls.
+ */
+class CircuitBreakerTest {
+
+    private static final int THRESHOLD = 3;
+    private static final long OPEN_MILLIS = 200;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // IllegalStateException 만 장애로 집계 (IllegalArgumentException 은 서버가 응답한 4xx 역할)
+    private final CircuitBreaker breaker = new CircuitBreaker("test", THRESHOLD, Duration.ofMillis(OPEN_MILLIS),
+            e -> e instanceof IllegalStateException, registry);
+
+    @Test
+    void opensAfterThresholdConsecutiveFailures() {
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            fail();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> breaker.execute(calls::incrementAndGet))
+                .isInstanceOfSatisfying(CircuitBreaker.CallNotPermittedException.class,
+                        e -> assertThat(e.getRetryAfterMillis()).isPositive().isLessThanOrEqualTo(OPEN_MILLIS));
+        // 열려 있는 동안은 호출 자체를 하지 않음
+        assertThat(calls).hasValue(0);
+        assertThat(count("failed")).isEqualTo(THRESHOLD);
+        assertThat(count("not_permitted")).isEqualTo(1);
+        assertThat(stateGauge("open")).isEqualTo(1);
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            fail();
+        }
+        assertThat(breaker.execute(() -> "ok")).isEqualTo("ok");
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            fail();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void ignoredExceptionsDoNotCountAsFailures() {
+        for (int i = 0; i < THRESHOLD * 2; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw new IllegalArgumentException("bad request");
+            })).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(count("failed")).isZero();
+        assertThat(count("successful")).isEqualTo(THRESHOLD * 2);
+    }
+
+    @Test
+    void ignoredExceptionBreaksAFailureStreak() {
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            fail();
+        }
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new IllegalArgumentException("bad request");
+        })).isInstanceOf(IllegalArgumentException.class);
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void successfulProbeClosesTheCircuit() throws Exception {
+        open();
+        Thread.sleep(OPEN_MILLIS + 50);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        assertThat(breaker.execute(() -> "probe")).isEqualTo("probe");
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.execute(() -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    void failedProbeReopensTheCircuit() throws Exception {
+        open();
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        // half-open 에서는 한 번의 실패로 바로 다시 열림 (threshold 와 무관)
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.execute(() -> "rejected"))
+                .isInstanceOf(CircuitBreaker.CallNotPermittedException.class);
+    }
+
+    @Test
+    void halfOpenLetsOnlyOneProbeThrough() throws Exception {
+        open();
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        CountDownLatch probeStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> probe = pool.submit(() -> breaker.execute(() -> {
+                probeStarted.countDown();
+                await(release);
+                return "probe";
+            }));
+            await(probeStarted);
+
+            // 시험 호출 결과가 나오기 전의 호출은 기다리지 않고 바로 거절
+            AtomicInteger calls = new AtomicInteger();
+            assertThatThrownBy(() -> breaker.execute(calls::incrementAndGet))
+                    .isInstanceOfSatisfying(CircuitBreaker.CallNotPermittedException.class,
+                            e -> assertThat(e.getRetryAfterMillis()).isZero());
+            assertThat(calls).hasValue(0);
+
+            release.countDown();
+            assertThat(probe.get(5, TimeUnit.SECONDS)).isEqualTo("probe");
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void open() {
+        for (int i = 0; i < THRESHOLD; i++) {
+            fail();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    private double count(String kind) {
+        return registry.get("circuitbreaker.calls").tag("kind", kind).counter().count();
+    }
+
+    private double stateGauge(String state) {
+        return registry.get("circuitbreaker.state").tag("state", state).gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
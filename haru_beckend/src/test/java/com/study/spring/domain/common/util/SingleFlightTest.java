@@ -0,0 +1,149 @@
+package com.study.spring.domain.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SingleFlight: concurrent calls for one key share a single loader run (and its result or exception);
+ * nothing is kept once the call completes.
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>("test", registry);
+
+    @Test
+    void concurrentCallsForOneKeyRunTheLoaderOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> flight.execute("kimchi", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "result";
+                })));
+            }
+            // 첫 호출이 loader 안에서 기다리는 동안 나머지가 모두 합쳐질 때까지 대기
+            waitUntil(() -> coalesced() == CALLERS - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(coalesced()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void waitersReceiveTheLoaderException() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("upstream down");
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = pool.submit(() -> flight.execute("kimchi", () -> {
+                started.countDown();
+                await(release);
+                throw failure;
+            }));
+            await(started);
+            Future<String> second = pool.submit(() -> flight.execute("kimchi", () -> "not called"));
+            waitUntil(() -> coalesced() == 1);
+            release.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseReference(failure);
+            // CompletionException 이 아니라 원래 예외 그대로
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseReference(failure);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void completedCallsAreNotReused() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(flight.execute("kimchi", () -> "first " + loads.incrementAndGet())).isEqualTo("first 1");
+        assertThat(flight.execute("kimchi", () -> "second " + loads.incrementAndGet())).isEqualTo("second 2");
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    void failedCallDoesNotBlockTheNextOne() {
+        assertThatThrownBy(() -> flight.execute("kimchi", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(flight.execute("kimchi", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> a = pool.submit(() -> flight.execute("kimchi", () -> {
+                bothStarted.countDown();
+                await(bothStarted);
+                return "a";
+            }));
+            Future<String> b = pool.submit(() -> flight.execute("bibimbap", () -> {
+                bothStarted.countDown();
+                await(bothStarted);
+                return "b";
+            }));
+
+            assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+            assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(coalesced()).isZero();
+    }
+
+    private double coalesced() {
+        return registry.get("singleflight.coalesced").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not reached within 5s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.study.spring.domain.meal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FoodAnalysisService.analyzeBatchAsync against a local stub of the Python text endpoint:
+ * items run in at most batch.max-concurrency lanes, results keep request order, and a failing item
+ * (upstream error, unreachable image, full analysis queue) is reported in place without failing the batch.
+ */
+class FoodAnalysisBatchTest {
+
+    private static final long UPSTREAM_DELAY_MS = 100;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final AtomicInteger calls = new AtomicInteger();
+    // null 이 아니면 파이썬 서버 응답을 이 latch 가 열릴 때까지 보류
+    private volatile CountDownLatch hold;
+
+    private HttpServer upstream;
+    private FoodAnalysisService service;
+
+    @BeforeEach
+    void startUpstream() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.createContext("/api/food/analyze/text", exchange -> {
+            calls.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Map<?, ?> request = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+                String foodName = String.valueOf(request.get("food_name"));
+                CountDownLatch latch = hold;
+                if (latch != null) {
+                    latch.await(5, TimeUnit.SECONDS);
+                } else {
+                    Thread.sleep(UPSTREAM_DELAY_MS);
+                }
+
+                int status = foodName.startsWith("fail") ? 500 : 200;
+                byte[] body = objectMapper.writeValueAsBytes(Map.of("success", status == 200, "food", foodName));
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+                exchange.close();
+            }
+        });
+        upstream.start();
+    }
+
+    @AfterEach
+    void stop() {
+        if (service != null) {
+            service.shutdown();
+        }
+        upstream.stop(0);
+    }
+
+    @Test
+    void itemsRunInBoundedLanesAndKeepRequestOrder() {
+        service = service(2, 16, 100);
+        List<String> names = List.of("zz-one", "zz-two", "zz-three", "zz-four", "zz-five", "zz-six");
+
+        List<Map<String, Object>> results = service.analyzeBatchAsync(names, List.of()).join();
+
+        assertThat(results).hasSize(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            assertThat(results.get(i))
+                    .containsEntry("index", i)
+                    .containsEntry("type", "text")
+                    .containsEntry("input", names.get(i))
+                    .containsEntry("success", true);
+        }
+        // 2줄이 동시에 진행되지만 그 이상은 아님
+        assertThat(maxRunning).hasValue(2);
+        assertThat(calls).hasValue(names.size());
+    }
+
+    @Test
+    void failedItemsAreReportedInPlace() {
+        service = service(4, 16, 100);
+
+        List<Map<String, Object>> results = service.analyzeBatchAsync(
+                List.of("zz-ok", "fail-upstream"),
+                List.of("http://127.0.0.1:" + closedPort() + "/photo.jpg")).join();
+
+        assertThat(results).extracting(result -> result.get("success")).containsExactly(true, false, false);
+        assertThat(results.get(1)).containsEntry("type", "text").containsKey("error");
+        assertThat(results.get(2)).containsEntry("index", 2).containsEntry("type", "image").containsKey("error");
+    }
+
+    @Test
+    void fullAnalysisQueueFailsOnlyTheRejectedItems() throws Exception {
+        // 스레드 1개 + 대기열 1개, 일괄 분석은 4줄 -> 동시에 들어간 4개 중 2개는 대기열 초과
+        service = service(4, 1, 1);
+        hold = new CountDownLatch(1);
+
+        var batch = service.analyzeBatchAsync(List.of("zz-a", "zz-b", "zz-c", "zz-d"), List.of());
+        waitUntil(() -> calls.get() == 1);
+        hold.countDown();
+        List<Map<String, Object>> results = batch.get(5, TimeUnit.SECONDS);
+
+        assertThat(results).filteredOn(result -> Boolean.TRUE.equals(result.get("success"))).hasSize(2);
+        assertThat(results).filteredOn(result -> Boolean.FALSE.equals(result.get("success")))
+                .hasSize(2)
+                .allSatisfy(result -> assertThat(result)
+                        .containsEntry("code", "ANALYSIS_UNAVAILABLE")
+                        .containsEntry("reason", "QUEUE_FULL"));
+    }
+
+    @Test
+    void referenceAndCachedItemsDoNotCallUpstream() {
+        service = service(4, 16, 100);
+        service.analyzeBatchAsync(List.of("zz-cached"), List.of()).join();
+        calls.set(0);
+
+        // 김치찌개: 참조 DB, "ZZ-Cached ": 정규화하면 캐시된 이름
+        List<Map<String, Object>> results = service.analyzeBatchAsync(List.of("김치찌개", "ZZ-Cached "), List.of()).join();
+
+        assertThat(results).extracting(result -> result.get("success")).containsExactly(true, true);
+        assertThat(results.get(0)).extractingByKey("result").asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsEntry("source", "reference");
+        assertThat(results.get(1)).extractingByKey("result").asInstanceOf(InstanceOfAssertFactories.MAP)
+                .doesNotContainKey("source");
+        assertThat(calls).hasValue(0);
+    }
+
+    private FoodAnalysisService service(int batchConcurrency, int poolSize, int queueCapacity) {
+        RestTemplate restTemplate = new RestTemplateBuilder()
+                .rootUri("http://127.0.0.1:" + upstream.getAddress().getPort())
+                .build();
+        return new FoodAnalysisService(restTemplate, objectMapper,
+                new NutritionReferenceService(registry, ""), registry,
+                100, 60, 100, 60, "",
+                poolSize, queueCapacity, batchConcurrency,
+                16, 500,
+                100, 30);
+    }
+
+    private static int closedPort() {
+        try (var socket = new java.net.ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not reached within 5s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.study.spring.domain.meal.service;
+
+import com.study.spring.domain.meal.dto.MealDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FoodNameIndex: prefix lookups return the top-k names by use count (ties in name order), spelling variants
+ * share one entry, an empty prefix or non-positive limit returns nothing, and concurrent record calls
+ * neither lose counts nor corrupt the sorted arrays.
+ */
+class FoodNameIndexTest {
+
+    private static final double[] NO_NUTRIENTS = new double[FoodNameIndex.NUTRIENTS];
+
+    private final FoodNameIndex index = new FoodNameIndex();
+
+    @Test
+    void returnsTopKByCountForThePrefix() {
+        record("김치찌개", 5);
+        record("김치볶음밥", 9);
+        record("김치전", 2);
+        record("김밥", 20);
+        record("된장찌개", 30);
+
+        assertThat(names(index.suggest("김치", 2))).containsExactly("김치볶음밥", "김치찌개");
+        assertThat(names(index.suggest("김", 10))).containsExactly("김밥", "김치볶음밥", "김치찌개", "김치전");
+        assertThat(index.suggest("김치", 2)).extracting(MealDto.FoodSuggestion::getCount).containsExactly(9, 5);
+    }
+
+    @Test
+    void equalCountsAreOrderedByName() {
+        record("라면", 3);
+        record("라볶이", 3);
+        record("라자냐", 3);
+
+        assertThat(names(index.suggest("라", 2))).containsExactly("라면", "라볶이");
+    }
+
+    @Test
+    void spellingVariantsShareOneEntry() {
+        record("김치 찌개", 1);
+        record("김치찌개", 1);
+        record(" 김치찌개 ", 1);
+
+        List<MealDto.FoodSuggestion> suggestions = index.suggest("김치 찌", 5);
+        assertThat(suggestions).hasSize(1);
+        // 처음 기록된 표기를 그대로 표시
+        assertThat(suggestions.get(0).getFoodName()).isEqualTo("김치 찌개");
+        assertThat(suggestions.get(0).getCount()).isEqualTo(3);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyOrBlankPrefixReturnsNothing() {
+        record("김밥", 1);
+
+        assertThat(index.suggest("", 10)).isEmpty();
+        assertThat(index.suggest("   ", 10)).isEmpty();
+        assertThat(index.suggest("없는음식", 10)).isEmpty();
+    }
+
+    @Test
+    void limitIsClampedToTheMatchingNames() {
+        record("비빔밥", 2);
+        record("비빔국수", 1);
+        record("불고기", 7);
+
+        assertThat(names(index.suggest("비빔", 50))).containsExactly("비빔밥", "비빔국수");
+        assertThat(index.suggest("비빔", 0)).isEmpty();
+        assertThat(index.suggest("비빔", -1)).isEmpty();
+        assertThat(index.suggest("비빔", 1)).hasSize(1);
+    }
+
+    @Test
+    void averagesNutrientsPer100gOverRecordsWithAnAmount() {
+        // 200g 에 400kcal -> 100g 당 200, 100g 에 100kcal -> 100g 당 100
+        index.record("닭가슴살", 200, new double[]{400, 0, 60, 4, 100, 0});
+        index.record("닭가슴살", 100, new double[]{100, 0, 20, 2, 50, 0});
+        index.record("닭가슴살", null, new double[]{999, 999, 999, 999, 999, 999});
+
+        MealDto.FoodSuggestion suggestion = index.suggest("닭", 1).get(0);
+        assertThat(suggestion.getCount()).isEqualTo(3);
+        assertThat(suggestion.getCaloriesPer100g()).isEqualTo(150.0f);
+        assertThat(suggestion.getProteinPer100g()).isEqualTo(25.0f);
+    }
+
+    @Test
+    void loadMergesSpellingVariantsAndKeepsTheMostUsedSpelling() {
+        index.load(List.of(
+                stats("Chicken Salad", 2),
+                stats("chicken salad", 5),
+                stats("Caesar Salad", 1),
+                stats("   ", 9)));
+
+        assertThat(index.size()).isEqualTo(2);
+        List<MealDto.FoodSuggestion> suggestions = index.suggest("CHICKEN", 5);
+        assertThat(names(suggestions)).containsExactly("chicken salad");
+        assertThat(suggestions.get(0).getCount()).isEqualTo(7);
+    }
+
+    @Test
+    void concurrentRecordsKeepEveryCountAndTheSortOrder() throws Exception {
+        int threads = 8;
+        int namesPerThread = 50;
+        int repeats = 20;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    // 모든 스레드가 같은 이름들을 섞인 순서로 기록 (새 이름 삽입과 기존 이름 갱신이 겹치도록)
+                    for (int r = 0; r < repeats; r++) {
+                        for (int n = 0; n < namesPerThread; n++) {
+                            index.record("food" + ((n * 7 + r) % namesPerThread), null, NO_NUTRIENTS);
+                        }
+                        index.suggest("food1", 5);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(index.size()).isEqualTo(namesPerThread);
+        List<MealDto.FoodSuggestion> all = index.suggest("food", namesPerThread);
+        assertThat(all).hasSize(namesPerThread)
+                .allSatisfy(s -> assertThat(s.getCount()).isEqualTo(threads * repeats));
+        // 횟수가 모두 같으므로 이름순 = 정렬 배열이 깨지지 않았음
+        assertThat(names(all)).isSorted();
+    }
+
+    private void record(String foodName, int times) {
+        for (int i = 0; i < times; i++) {
+            index.record(foodName, null, NO_NUTRIENTS);
+        }
+    }
+
+    private static MealDto.FoodNameStats stats(String foodName, long count) {
+        return new MealDto.FoodNameStats(foodName, count, 0L, null, null, null, null, null, null);
+    }
+
+    private static List<String> names(List<MealDto.FoodSuggestion> suggestions) {
+        return suggestions.stream().map(MealDto.FoodSuggestion::getFoodName).toList();
+    }
+}
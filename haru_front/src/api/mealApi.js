@@ -42,11 +42,12 @@ export const fetchMonthlyMeals = async (memberId, year, month) => {
   }
 };
 
-// 🔥 특정 날짜 범위의 식사 기록 가져오기 (대안 API)
-export const fetchMealsByDateRange = async (memberId, startDate, endDate) => {
+// 🔥 특정 날짜 범위의 식사 기록 가져오기 (YYYY-MM-DD, 요청 1번)
+// 응답: { "2025-07-01": [...], "2025-07-02": { message: "nodata" }, ... }
+export const fetchMealsByDateRange = async (memberId, from, to) => {
   try {
     const response = await axios.get(
-      `${API_BASE_URL}/meals/date-range/member/${memberId}?startDate=${startDate}&endDate=${endDate}`
+      `${API_BASE_URL}/meals/date-range/member/${memberId}?from=${from}&to=${to}`
     );
 
     return response.data;
@@ -20,32 +20,30 @@ export const fetchMealRecordsByDateRangeThunk = createAsyncThunk(
         endDate,
       });
 
-      // 🔥 전체 데이터를 가져와서 날짜 범위로 필터링
+      // 🔥 기간 API 한 번으로 날짜별 데이터 가져오기
+      const toLocalDateString = (value) => {
+        const d = new Date(value);
+        return `${d.getFullYear()}-${String(d.getMonth() + 1).padStart(
+          2,
+          "0"
+        )}-${String(d.getDate()).padStart(2, "0")}`;
+      };
+
       let filteredData;
       try {
-        console.log("🔍 1단계: fetchMealsByMemberId 호출 (전체 데이터)");
-        const allData = await fetchMealsByMemberId(memberId);
-        console.log("✅ fetchMealsByMemberId 응답:", allData);
-
-        if (allData && Array.isArray(allData)) {
-          // 시작일과 종료일 사이의 데이터만 필터링
-          const start = new Date(startDate);
-          const end = new Date(endDate);
-          start.setHours(0, 0, 0, 0);
-          end.setHours(23, 59, 59, 999);
-
-          filteredData = allData.filter((meal) => {
-            const mealDate = new Date(
-              meal.modifiedAt || meal.createDate || meal.createdDate
-            );
-            return mealDate >= start && mealDate <= end;
-          });
-          console.log("✅ 필터링된 데이터:", filteredData);
-        } else {
-          filteredData = [];
-        }
+        const mealsByDate = await fetchMealsByDateRange(
+          memberId,
+          toLocalDateString(startDate),
+          toLocalDateString(endDate)
+        );
+
+        // 날짜별 배열만 펼치기 (기록 없는 날은 { message: "nodata" })
+        filteredData = Object.values(mealsByDate || {})
+          .filter((dayMeals) => Array.isArray(dayMeals))
+          .flat();
+        console.log("✅ 기간 조회 데이터:", filteredData);
       } catch (error) {
-        console.log("❌ fetchMealsByMemberId 실패:", error);
+        console.log("❌ fetchMealsByDateRange 실패:", error);
         filteredData = [];
       }
 